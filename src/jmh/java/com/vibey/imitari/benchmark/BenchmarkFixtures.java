@@ -0,0 +1,158 @@
+package com.vibey.imitari.benchmark;
+
+import com.mojang.blaze3d.platform.NativeImage;
+import com.vibey.imitari.util.CopiedStateIndex;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.SharedConstants;
+import net.minecraft.client.renderer.block.model.BakedQuad;
+import net.minecraft.client.renderer.texture.SpriteContents;
+import net.minecraft.client.renderer.texture.TextureAtlas;
+import net.minecraft.client.renderer.texture.TextureAtlasSprite;
+import net.minecraft.client.resources.metadata.animation.AnimationMetadataSection;
+import net.minecraft.client.resources.metadata.animation.FrameSize;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.core.Holder;
+import net.minecraft.core.MappedRegistry;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.tags.TagKey;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.material.FluidState;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Shared setup for the benchmarks.
+ *
+ * Benchmarks run outside the game: the vanilla registries are bootstrapped directly,
+ * a few block tags are bound by hand and no mixins are applied. Code the mixins inject
+ * is benchmarked by calling the hook targets directly.
+ */
+public final class BenchmarkFixtures {
+
+    public static final TagKey<Block> LOGS = TagKey.create(Registries.BLOCK, new ResourceLocation("minecraft", "logs"));
+    public static final TagKey<Block> MINEABLE_AXE = TagKey.create(Registries.BLOCK, new ResourceLocation("minecraft", "mineable/axe"));
+    public static final TagKey<Block> ORES = TagKey.create(Registries.BLOCK, new ResourceLocation("forge", "ores"));
+
+    private static boolean bootstrapped = false;
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Bootstrap the vanilla registries and bind the tags used by the benchmarks.
+     */
+    public static synchronized void bootstrap() {
+        if (bootstrapped) {
+            return;
+        }
+
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+
+        Holder<Block> oakLog = Blocks.OAK_LOG.builtInRegistryHolder();
+        Holder<Block> ironOre = Blocks.IRON_ORE.builtInRegistryHolder();
+        ((MappedRegistry<Block>) BuiltInRegistries.BLOCK).bindTags(Map.of(
+                LOGS, List.of(oakLog),
+                MINEABLE_AXE, List.of(oakLog),
+                ORES, List.of(ironOre)
+        ));
+
+        bootstrapped = true;
+    }
+
+    /**
+     * Minimal level: a position -> state map plus a {@link CopiedStateIndex}.
+     */
+    public static final class FakeLevel implements BlockGetter, CopiedStateIndex.Holder {
+        private final Long2ObjectOpenHashMap<BlockState> states = new Long2ObjectOpenHashMap<>();
+        private final CopiedStateIndex index = new CopiedStateIndex();
+
+        public FakeLevel() {
+            states.defaultReturnValue(Blocks.AIR.defaultBlockState());
+        }
+
+        public void setBlock(BlockPos pos, BlockState state) {
+            states.put(pos.asLong(), state);
+        }
+
+        public void setCopied(BlockPos pos, BlockState copyBlockState, BlockState copiedState) {
+            setBlock(pos, copyBlockState);
+            index.put(pos.asLong(), copiedState);
+        }
+
+        @Override
+        public CopiedStateIndex imitari$getCopiedStateIndex() {
+            return index;
+        }
+
+        @Nullable
+        @Override
+        public BlockEntity getBlockEntity(BlockPos pos) {
+            return null;
+        }
+
+        @Override
+        public BlockState getBlockState(BlockPos pos) {
+            return states.get(pos.asLong());
+        }
+
+        @Override
+        public FluidState getFluidState(BlockPos pos) {
+            return getBlockState(pos).getFluidState();
+        }
+
+        @Override
+        public int getHeight() {
+            return 384;
+        }
+
+        @Override
+        public int getMinBuildHeight() {
+            return -64;
+        }
+    }
+
+    /**
+     * A 16x16 sprite at the given position of a 256x256 block atlas.
+     */
+    public static TextureAtlasSprite sprite(String name, int x, int y) {
+        SpriteContents contents = new SpriteContents(new ResourceLocation("imitari_bench", name),
+                new FrameSize(16, 16), new NativeImage(16, 16, false), AnimationMetadataSection.EMPTY);
+        return new TextureAtlasSprite(TextureAtlas.LOCATION_BLOCKS, contents, 256, 256, x, y) {};
+    }
+
+    /**
+     * A full-face quad on {@code side} using the whole area of {@code sprite}.
+     */
+    public static BakedQuad quad(TextureAtlasSprite sprite, Direction side) {
+        int[] vertices = new int[32];
+        float[][] uv = {
+                {sprite.getU0(), sprite.getV0()},
+                {sprite.getU0(), sprite.getV1()},
+                {sprite.getU1(), sprite.getV1()},
+                {sprite.getU1(), sprite.getV0()}
+        };
+
+        for (int i = 0; i < 4; i++) {
+            int offset = i * 8;
+            vertices[offset] = Float.floatToRawIntBits(i >= 2 ? 1.0f : 0.0f);
+            vertices[offset + 1] = Float.floatToRawIntBits(1.0f);
+            vertices[offset + 2] = Float.floatToRawIntBits(i == 1 || i == 2 ? 1.0f : 0.0f);
+            vertices[offset + 3] = -1;
+            vertices[offset + 4] = Float.floatToRawIntBits(uv[i][0]);
+            vertices[offset + 5] = Float.floatToRawIntBits(uv[i][1]);
+        }
+
+        return new BakedQuad(vertices, -1, side, sprite, true);
+    }
+}
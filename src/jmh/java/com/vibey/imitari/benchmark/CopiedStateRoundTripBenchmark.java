@@ -0,0 +1,95 @@
+package com.vibey.imitari.benchmark;
+
+import com.mojang.logging.LogUtils;
+import com.vibey.imitari.util.CopiedStateCodec;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtUtils;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.StairBlock;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.block.state.properties.Half;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CopyBlockEntity saveAdditional/load round trips of the copied state.
+ *
+ * CopyBlockEntity needs its registered BlockEntityType, so these replay exactly the
+ * tag reads and writes it does: the current "CopiedState" string format against the
+ * legacy id + state compound format.
+ *
+ * - compactRoundTrip goes through the codec caches (the steady state after the first chunk)
+ * - compactRoundTripUncached parses and serializes every time (first load of each state)
+ * - The NBT size of both formats is logged once per trial
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CopiedStateRoundTripBenchmark {
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    private BlockState copiedState;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BenchmarkFixtures.bootstrap();
+
+        // A state with several properties - the common case for stairs, logs, slabs
+        copiedState = Blocks.OAK_STAIRS.defaultBlockState().setValue(StairBlock.HALF, Half.TOP);
+
+        LOGGER.info("[Imitari] Copied state NBT size: compact {} bytes, legacy {} bytes",
+                compactTag().sizeInBytes(), legacyTag().sizeInBytes());
+    }
+
+    @Benchmark
+    public BlockState compactRoundTrip() {
+        CompoundTag tag = compactTag();
+
+        return CopiedStateCodec.decode(tag.getString("CopiedState"));
+    }
+
+    @Benchmark
+    public BlockState compactRoundTripUncached() {
+        CompoundTag tag = new CompoundTag();
+        tag.putString("CopiedState", CopiedStateCodec.serialize(copiedState));
+
+        return CopiedStateCodec.parse(tag.getString("CopiedState"));
+    }
+
+    @Benchmark
+    public BlockState legacyRoundTrip() {
+        CompoundTag tag = legacyTag();
+
+        return NbtUtils.readBlockState(BuiltInRegistries.BLOCK.asLookup(), tag.getCompound("CopiedBlock"));
+    }
+
+    private CompoundTag compactTag() {
+        CompoundTag tag = new CompoundTag();
+        tag.putString("CopiedState", CopiedStateCodec.encode(copiedState));
+        return tag;
+    }
+
+    private CompoundTag legacyTag() {
+        CompoundTag tag = new CompoundTag();
+        tag.putString("CopiedBlockId", BuiltInRegistries.BLOCK.getKey(copiedState.getBlock()).toString());
+        tag.put("CopiedBlock", NbtUtils.writeBlockState(copiedState));
+        tag.putInt("VirtualRotation", 0);
+        return tag;
+    }
+}
@@ -0,0 +1,164 @@
+package com.vibey.imitari.benchmark;
+
+import com.vibey.imitari.api.ICopyBlock;
+import com.vibey.imitari.compat.vs2.VS2MassCache;
+import com.vibey.imitari.compat.vs2.VS2MassService;
+import com.vibey.imitari.util.MassMultiplierTable;
+import it.unimi.dsi.fastutil.objects.Reference2DoubleOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Effective mass / hardness math (VS2 mass, BlockStateDestroySpeedMixin) and VS2 dispatch.
+ *
+ * - effectiveMassVS2Cache goes through VS2MassCache (the path the VS2 integration uses),
+ *   with the base mass seeded so VS2's provider chain is never walked
+ * - The dispatch benchmarks call a {@link VS2MassService} that computes the new effective
+ *   mass, like the real one does: {@code Class.forName} + {@code getMethod} + {@code invoke}
+ *   per call (the old facade) against the interface call the facade makes now
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MassBenchmark {
+
+    private static final double BASE_MASS = 1000.0;
+
+    // Half-height CopyBlock (slab/layer style multiplier)
+    private final ICopyBlock copyBlock = () -> 0.5f;
+
+    private BenchmarkFixtures.FakeLevel level;
+    private BlockPos pos;
+    private BlockState copyBlockState;
+    private BlockState copiedState;
+    private MassComputingService service;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        BenchmarkFixtures.bootstrap();
+        MassMultiplierTable.build();
+
+        level = new BenchmarkFixtures.FakeLevel();
+        pos = new BlockPos(3, 70, 3);
+        copyBlockState = Blocks.GLASS.defaultBlockState();
+        copiedState = Blocks.OAK_PLANKS.defaultBlockState();
+        level.setCopied(pos, copyBlockState, copiedState);
+
+        // Seed VS2MassCache's base mass - VS2 itself is not running here
+        Field baseMass = VS2MassCache.class.getDeclaredField("BASE_MASS");
+        baseMass.setAccessible(true);
+        @SuppressWarnings("unchecked")
+        Reference2DoubleOpenHashMap<BlockState> baseMasses = (Reference2DoubleOpenHashMap<BlockState>) baseMass.get(null);
+        baseMasses.put(copiedState, BASE_MASS);
+
+        service = new MassComputingService(copyBlock, copiedState);
+    }
+
+    @Benchmark
+    public double effectiveMassLegacyReflection() throws Exception {
+        // Pre-table lookup: find and invoke getEffectiveMassMultiplier reflectively per call
+        Method method = ICopyBlock.class.getMethod("getEffectiveMassMultiplier", BlockState.class);
+        float multiplier = (float) method.invoke(copyBlock, copyBlockState);
+        return BASE_MASS * multiplier;
+    }
+
+    @Benchmark
+    public double effectiveMassTable() {
+        return BASE_MASS * MassMultiplierTable.get(copyBlockState, copyBlock);
+    }
+
+    @Benchmark
+    public double effectiveMassVS2Cache() {
+        return VS2MassCache.getEffectiveMass(copyBlockState, copiedState, copyBlock);
+    }
+
+    @Benchmark
+    public float destroySpeedVanilla() {
+        return copiedState.getDestroySpeed(level, pos);
+    }
+
+    @Benchmark
+    public float destroySpeedCopyBlock() {
+        // Body of BlockStateDestroySpeedMixin once the copied state is known
+        float baseSpeed = copiedState.getDestroySpeed(level, pos);
+        if (baseSpeed < 0.0f) {
+            return baseSpeed;
+        }
+        return baseSpeed * MassMultiplierTable.get(copyBlockState, copyBlock);
+    }
+
+    @Benchmark
+    public void serviceDispatchReflective(Blackhole blackhole) throws Exception {
+        // Old facade: class and method lookup on every notification, then invoke
+        Class<?> serviceClass = Class.forName("com.vibey.imitari.compat.vs2.VS2MassService");
+        Method method = serviceClass.getMethod("onBlockStateChanged",
+                net.minecraft.world.level.Level.class, BlockPos.class, BlockState.class, BlockState.class);
+        method.invoke(service, null, pos, copyBlockState, copyBlockState);
+        blackhole.consume(service.lastMass);
+    }
+
+    @Benchmark
+    public void serviceDispatchInterface(Blackhole blackhole) {
+        VS2MassService target = service;
+        target.onBlockStateChanged(null, pos, copyBlockState, copyBlockState);
+        blackhole.consume(service.lastMass);
+    }
+
+    /**
+     * Recomputes the effective mass on state changes, like VS2CopyBlockIntegrationImpl.
+     */
+    private static final class MassComputingService implements VS2MassService {
+        private final ICopyBlock copyBlock;
+        private final BlockState copiedState;
+        double lastMass;
+
+        MassComputingService(ICopyBlock copyBlock, BlockState copiedState) {
+            this.copyBlock = copyBlock;
+            this.copiedState = copiedState;
+        }
+
+        @Override
+        public void updateCopyBlockMass(net.minecraft.world.level.Level level, BlockPos pos,
+                                        BlockState copyBlockState, BlockState oldCopiedBlock) {
+            lastMass = VS2MassCache.getEffectiveMass(copyBlockState, copiedState, copyBlock);
+        }
+
+        @Override
+        public void onBlockEntityDataLoaded(net.minecraft.world.level.Level level, BlockPos pos,
+                                            BlockState state, BlockState copiedBlock) {
+            lastMass = VS2MassCache.getEffectiveMass(state, copiedBlock, copyBlock);
+        }
+
+        @Override
+        public void onBlockStateChanged(net.minecraft.world.level.Level level, BlockPos pos,
+                                        BlockState oldState, BlockState newState) {
+            lastMass = VS2MassCache.getEffectiveMass(newState, copiedState, copyBlock);
+        }
+
+        @Override
+        public void onBlockRemoved(net.minecraft.world.level.Level level, BlockPos pos,
+                                   BlockState state, BlockState copiedBlock) {
+            lastMass = 0.0;
+        }
+    }
+}
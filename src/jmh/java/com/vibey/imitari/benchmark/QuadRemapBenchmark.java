@@ -0,0 +1,126 @@
+package com.vibey.imitari.benchmark;
+
+import com.vibey.imitari.client.CopyBlockCullMask;
+import com.vibey.imitari.client.CopyBlockModel;
+import com.vibey.imitari.client.CopyBlockQuadCache;
+import com.vibey.imitari.client.QuadRemapper;
+import net.minecraft.client.renderer.block.model.BakedQuad;
+import net.minecraft.client.renderer.block.model.ItemOverrides;
+import net.minecraft.client.renderer.block.model.ItemTransforms;
+import net.minecraft.client.renderer.texture.TextureAtlasSprite;
+import net.minecraft.client.resources.model.BakedModel;
+import net.minecraft.client.resources.model.SimpleBakedModel;
+import net.minecraft.core.Direction;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraftforge.client.model.data.ModelData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Quad texture remapping and CopyBlockModel.getQuads.
+ *
+ * {@code legacyRemap} is the per-vertex division remap CopyBlockModel used before
+ * QuadRemapper, kept here as the baseline.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuadRemapBenchmark {
+
+    private BakedQuad baseQuad;
+    private TextureAtlasSprite targetSprite;
+    private CopyBlockModel model;
+    private BlockState copyBlockState;
+    private ModelData modelData;
+    private RandomSource random;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BenchmarkFixtures.bootstrap();
+
+        TextureAtlasSprite baseSprite = BenchmarkFixtures.sprite("copy_block", 0, 0);
+        targetSprite = BenchmarkFixtures.sprite("oak_planks", 48, 112);
+        baseQuad = BenchmarkFixtures.quad(baseSprite, Direction.UP);
+
+        Map<Direction, List<BakedQuad>> culled = new EnumMap<>(Direction.class);
+        for (Direction dir : Direction.values()) {
+            culled.put(dir, List.of(BenchmarkFixtures.quad(baseSprite, dir)));
+        }
+        BakedModel baseModel = new SimpleBakedModel(List.of(), culled, true, true, false,
+                baseSprite, ItemTransforms.NO_TRANSFORMS, ItemOverrides.EMPTY);
+
+        model = new CopyBlockModel(baseModel);
+        copyBlockState = Blocks.GLASS.defaultBlockState();
+        BlockState copiedState = Blocks.OAK_PLANKS.defaultBlockState();
+        modelData = CopyBlockCullMask.getModelData(copiedState, (byte) 0);
+        random = RandomSource.create(42L);
+
+        // Warm the shared quad cache - building needs the block renderer, which doesn't exist here
+        CopyBlockQuadCache.get(baseModel, copyBlockState, copiedState, Direction.UP, null,
+                () -> List.of(QuadRemapper.remap(culled.get(Direction.UP).get(0), targetSprite, -1)));
+    }
+
+    @Benchmark
+    public BakedQuad legacyRemap() {
+        return legacyRemapQuadTexture(baseQuad, targetSprite, -1);
+    }
+
+    @Benchmark
+    public BakedQuad transformRemap() {
+        return QuadRemapper.remap(baseQuad, targetSprite, -1);
+    }
+
+    @Benchmark
+    public List<BakedQuad> getQuadsCached() {
+        return model.getQuads(copyBlockState, Direction.UP, random, modelData, null);
+    }
+
+    @Benchmark
+    public List<BakedQuad> getQuadsCulled() {
+        return model.getQuads(copyBlockState, Direction.UP, random,
+                CopyBlockCullMask.getModelData(Blocks.OAK_PLANKS.defaultBlockState(),
+                        (byte) (1 << Direction.UP.ordinal())), null);
+    }
+
+    private static BakedQuad legacyRemapQuadTexture(BakedQuad originalQuad, TextureAtlasSprite newSprite, int tintIndex) {
+        int[] vertexData = originalQuad.getVertices().clone();
+        TextureAtlasSprite oldSprite = originalQuad.getSprite();
+
+        for (int i = 0; i < 4; i++) {
+            int offset = i * 8;
+
+            float u = Float.intBitsToFloat(vertexData[offset + 4]);
+            float v = Float.intBitsToFloat(vertexData[offset + 5]);
+
+            float relativeU = (u - oldSprite.getU0()) / (oldSprite.getU1() - oldSprite.getU0());
+            float relativeV = (v - oldSprite.getV0()) / (oldSprite.getV1() - oldSprite.getV0());
+
+            float newU = newSprite.getU0() + relativeU * (newSprite.getU1() - newSprite.getU0());
+            float newV = newSprite.getV0() + relativeV * (newSprite.getV1() - newSprite.getV0());
+
+            vertexData[offset + 4] = Float.floatToRawIntBits(newU);
+            vertexData[offset + 5] = Float.floatToRawIntBits(newV);
+        }
+
+        return new BakedQuad(vertexData, tintIndex, originalQuad.getDirection(), newSprite, originalQuad.isShade());
+    }
+}
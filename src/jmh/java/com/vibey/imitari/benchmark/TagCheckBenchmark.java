@@ -0,0 +1,103 @@
+package com.vibey.imitari.benchmark;
+
+import com.vibey.imitari.util.CopiedStateIndex;
+import com.vibey.imitari.util.CopiedTagTable;
+import com.vibey.imitari.util.CopyBlockContext;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dynamic tag checks (BlockStateTagMixin) and the CopyBlockContext they resolve through.
+ *
+ * The mixin is not applied here: {@code vanillaIs*} is the cost every non-CopyBlock pays,
+ * {@code copyBlock*} is the body the mixin runs for a CopyBlock state.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TagCheckBenchmark {
+
+    private BenchmarkFixtures.FakeLevel level;
+    private CopiedStateIndex index;
+    private BlockPos pos;
+    private BlockState stone;
+    private BlockState oakLog;
+    private BlockState ironOre;
+    // Stand-in for a CopyBlock state - the context only compares identity
+    private BlockState copyBlockState;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BenchmarkFixtures.bootstrap();
+
+        level = new BenchmarkFixtures.FakeLevel();
+        index = CopiedStateIndex.of(level);
+        pos = new BlockPos(12, 64, -7);
+        stone = Blocks.STONE.defaultBlockState();
+        oakLog = Blocks.OAK_LOG.defaultBlockState();
+        ironOre = Blocks.IRON_ORE.defaultBlockState();
+        copyBlockState = Blocks.GLASS.defaultBlockState();
+
+        level.setCopied(pos, copyBlockState, oakLog);
+
+        // Build the table outside the measurement
+        CopiedTagTable.resolve(oakLog, BenchmarkFixtures.LOGS);
+    }
+
+    @Benchmark
+    public boolean vanillaIsNonCopyBlock() {
+        return stone.is(BenchmarkFixtures.LOGS);
+    }
+
+    @Benchmark
+    public boolean vanillaIsMatching() {
+        return oakLog.is(BenchmarkFixtures.LOGS);
+    }
+
+    @Benchmark
+    public Boolean tagTableResolve() {
+        return CopiedTagTable.resolve(oakLog, BenchmarkFixtures.LOGS);
+    }
+
+    @Benchmark
+    public Boolean tagTableResolveBlacklisted() {
+        return CopiedTagTable.resolve(ironOre, BenchmarkFixtures.ORES);
+    }
+
+    @Benchmark
+    public Boolean copyBlockRecordAndCheck() {
+        // What Level.getBlockState + BlockState.is do for a CopyBlock with both mixins applied
+        CopyBlockContext.record(level, index, pos, copyBlockState);
+        return CopyBlockContext.checkCopiedBlockTag(copyBlockState, BenchmarkFixtures.LOGS);
+    }
+
+    @Benchmark
+    public Boolean copyBlockCheckOtherState() {
+        // Tag check on a different CopyBlock state than the one recorded - rejected early
+        CopyBlockContext.record(level, index, pos, copyBlockState);
+        return CopyBlockContext.checkCopiedBlockTag(stone, BenchmarkFixtures.LOGS);
+    }
+
+    @Benchmark
+    public BlockState contextPushAndPeek() {
+        CopyBlockContext.push(level, pos);
+        return CopyBlockContext.getCopiedBlock(null);
+    }
+}
@@ -12,6 +12,8 @@ import com.vibey.imitari.registry.ModBlockEntities;
 import com.vibey.imitari.registry.ModBlocks;
 import com.vibey.imitari.registry.ModItems;
 import com.vibey.imitari.integration.ModIntegrations;
+import com.vibey.imitari.network.ImitariNetwork;
+import com.vibey.imitari.util.MassMultiplierTable;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.ItemBlockRenderTypes;
 import net.minecraft.client.renderer.RenderType;
@@ -55,6 +57,9 @@ public class Imitari {
         // Register config
         ImitariConfig.register();
 
+        // Register network channel
+        ImitariNetwork.register();
+
         // Setup event listeners
         modEventBus.addListener(this::commonSetup);
 
@@ -78,6 +83,9 @@ public class Imitari {
             int count = CopyBlockRegistration.registerForMod(MODID);
             LOGGER.info("Registered {} CopyBlocks", count);
 
+            // Registries are frozen - precompute per-state mass multipliers
+            MassMultiplierTable.build();
+
             // Initialize VS2 integration (if present)
             VS2CopyBlockIntegration.register();
 
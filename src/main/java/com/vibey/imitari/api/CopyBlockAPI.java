@@ -53,6 +53,7 @@ import java.util.Set;
 public class CopyBlockAPI {
 
     private static final Set<ResourceLocation> REGISTERED_BLOCKS = new HashSet<>();
+    private static final Set<ResourceLocation> CULLING_BLOCKS = new HashSet<>();
 
     // ==================== REGISTRATION API ====================
 
@@ -167,6 +168,46 @@ public class CopyBlockAPI {
         REGISTERED_BLOCKS.clear();
     }
 
+    // ==================== RENDERING API ====================
+
+    /**
+     * Register a block whose copies hide faces shared with the same block, like glass.
+     * Equivalent to adding it to the {@code imitari:culls_matching_faces} block tag.
+     * Call this during mod initialization (FMLCommonSetupEvent).
+     *
+     * <p>Example:</p>
+     * <pre>{@code
+     * CopyBlockAPI.registerCullingBlock(new ResourceLocation("mymod", "crystal_block"));
+     * }</pre>
+     *
+     * @param blockId The ResourceLocation of the culling block
+     */
+    public static synchronized void registerCullingBlock(ResourceLocation blockId) {
+        CULLING_BLOCKS.add(blockId);
+    }
+
+    /**
+     * Register a block whose copies hide faces shared with the same block, like glass.
+     *
+     * @param block The culling block
+     */
+    public static void registerCullingBlock(Block block) {
+        ResourceLocation id = ForgeRegistries.BLOCKS.getKey(block);
+        if (id != null) {
+            registerCullingBlock(id);
+        }
+    }
+
+    /**
+     * Get all blocks registered through {@link #registerCullingBlock(ResourceLocation)}.
+     * Returns a copy to prevent external modification.
+     *
+     * @return Set of registered culling block IDs
+     */
+    public static synchronized Set<ResourceLocation> getCullingBlocks() {
+        return new HashSet<>(CULLING_BLOCKS);
+    }
+
     // ==================== QUERY API ====================
 
     /**
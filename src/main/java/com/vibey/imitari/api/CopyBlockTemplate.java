@@ -220,6 +220,7 @@ public class CopyBlockTemplate implements EntityBlock, ICopyBlock {
     /**
      * EXAMPLE: For a layer block with 1-8 layers
      *
+     * @Override
      * public float getEffectiveMassMultiplier(BlockState state) {
      *     int layers = state.getValue(LAYERS); // 1-8
      *     return getMassMultiplier() * layers; // 0.125 * layers
@@ -229,6 +230,7 @@ public class CopyBlockTemplate implements EntityBlock, ICopyBlock {
     /**
      * EXAMPLE: For a slab with bottom/top/double variants
      *
+     * @Override
      * public float getEffectiveMassMultiplier(BlockState state) {
      *     SlabType type = state.getValue(BlockStateProperties.SLAB_TYPE);
      *     if (type == SlabType.DOUBLE) {
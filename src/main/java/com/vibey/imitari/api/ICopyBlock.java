@@ -3,6 +3,8 @@ package com.vibey.imitari.api;
 import com.vibey.imitari.api.blockentity.ICopyBlockEntity;
 import com.vibey.imitari.compat.vs2.VS2CopyBlockIntegration;
 import com.vibey.imitari.config.ImitariConfig;
+import com.vibey.imitari.util.CopiedPhysics;
+import com.vibey.imitari.util.MiningProgressCache;
 import net.minecraft.core.BlockPos;
 import net.minecraft.sounds.SoundSource;
 import net.minecraft.world.InteractionHand;
@@ -68,6 +70,20 @@ public interface ICopyBlock {
 
     // ==================== OPTIONAL OVERRIDES ====================
 
+    /**
+     * The mass multiplier for a specific state of this block.
+     * Override for blocks whose size depends on state (layers, double slabs, etc.).
+     *
+     * <p>Called once per state at startup; the results are cached, so this must
+     * only depend on the state.</p>
+     *
+     * @param state A state of this block
+     * @return The effective mass multiplier (defaults to {@link #getMassMultiplier()})
+     */
+    default float getEffectiveMassMultiplier(BlockState state) {
+        return getMassMultiplier();
+    }
+
     /**
      * Whether this block should use Imitari's dynamic model system.
      * Override to return false if you want custom rendering.
@@ -85,7 +101,7 @@ public interface ICopyBlock {
      * @return true to inherit tags (default), false to use only this block's tags
      */
     default boolean useDynamicTags() {
-        return ImitariConfig.ENABLE_DYNAMIC_TAGS.get();
+        return ImitariConfig.get().enableDynamicTags();
     }
 
     /**
@@ -115,7 +131,7 @@ public interface ICopyBlock {
      * @return true to consume items (default), false to allow free copying
      */
     default boolean consumesItemsOnPlace() {
-        return ImitariConfig.CONSUMES_ITEMS_IN_SURVIVAL.get();
+        return ImitariConfig.get().consumesItemsInSurvival();
     }
 
     /**
@@ -135,52 +151,41 @@ public interface ICopyBlock {
      * @return value from config
      */
     default boolean allowSurvivalRemoval() {
-        return ImitariConfig.ALLOW_SURVIVAL_REMOVAL.get();
+        return ImitariConfig.get().allowSurvivalRemoval();
     }
 
     // ==================== DELEGATION METHODS ====================
     // Call these from your Block class overrides for automatic behavior
 
     /**
-     * Get explosion resistance based on copied block * mass multiplier.
+     * Get explosion resistance based on copied block * effective mass multiplier.
      * Call this from your Block's {@code getExplosionResistance()} override.
      *
      * @return Explosion resistance value
      */
     default float copyblock$getExplosionResistance(BlockState state, BlockGetter level, BlockPos pos, Explosion explosion) {
-        if (!useDynamicPhysics() || !ImitariConfig.COPY_RESISTANCE.get()) {
+        if (!useDynamicPhysics() || !ImitariConfig.get().copyResistance()) {
             return 0.5f; // Empty CopyBlock resistance
         }
 
-        BlockEntity be = level.getBlockEntity(pos);
-        if (be instanceof ICopyBlockEntity copyBE) {
-            BlockState copiedState = copyBE.getCopiedBlock();
-            if (!copiedState.isAir()) {
-                float baseResistance = copiedState.getBlock().getExplosionResistance();
-                return baseResistance * getMassMultiplier();
-            }
-        }
-        return 0.5f; // Empty CopyBlock resistance
+        CopiedPhysics physics = CopiedPhysics.at(state, level, pos);
+        return physics != null ? physics.explosionResistance() : 0.5f; // Empty CopyBlock resistance
     }
 
     /**
-     * Get mining speed based on copied block / mass multiplier.
+     * Get mining speed based on copied block / effective mass multiplier.
      * Call this from your Block's {@code getDestroyProgress()} override.
      *
      * @return Destroy progress value (0.0 to 1.0+)
      */
     default float copyblock$getDestroyProgress(BlockState state, Player player, BlockGetter level, BlockPos pos) {
-        if (!useDynamicPhysics() || !ImitariConfig.COPY_HARDNESS.get()) {
+        if (!useDynamicPhysics() || !ImitariConfig.get().copyHardness()) {
             return 1.0f / 0.5f; // Empty CopyBlock hardness = 0.5
         }
 
-        BlockEntity be = level.getBlockEntity(pos);
-        if (be instanceof ICopyBlockEntity copyBE) {
-            BlockState copiedState = copyBE.getCopiedBlock();
-            if (!copiedState.isAir()) {
-                float baseProgress = copiedState.getDestroyProgress(player, level, pos);
-                return baseProgress / getMassMultiplier();
-            }
+        CopiedPhysics physics = CopiedPhysics.at(state, level, pos);
+        if (physics != null) {
+            return MiningProgressCache.getDestroyProgress(player, pos, physics);
         }
         return 1.0f / 0.5f; // Empty CopyBlock hardness = 0.5
     }
@@ -192,14 +197,8 @@ public interface ICopyBlock {
      * @return Sound type from copied block, or default wood sound
      */
     default SoundType copyblock$getSoundType(BlockState state, LevelReader level, BlockPos pos, @Nullable Entity entity) {
-        BlockEntity be = level.getBlockEntity(pos);
-        if (be instanceof ICopyBlockEntity copyBE) {
-            BlockState copiedState = copyBE.getCopiedBlock();
-            if (!copiedState.isAir()) {
-                return copiedState.getSoundType(level, pos, entity);
-            }
-        }
-        return SoundType.WOOD;
+        CopiedPhysics physics = CopiedPhysics.at(state, level, pos);
+        return physics != null ? physics.soundType() : SoundType.WOOD;
     }
 
     /**
@@ -392,13 +391,7 @@ public interface ICopyBlock {
             return 0; // Let the block's own light level be used
         }
 
-        BlockEntity be = level.getBlockEntity(pos);
-        if (be instanceof ICopyBlockEntity copyBE) {
-            BlockState copiedState = copyBE.getCopiedBlock();
-            if (!copiedState.isAir()) {
-                return copiedState.getLightEmission(level, pos);
-            }
-        }
-        return 0; // Empty CopyBlock = no light
+        CopiedPhysics physics = CopiedPhysics.at(state, level, pos);
+        return physics != null ? physics.lightEmission() : 0; // Empty CopyBlock = no light
     }
 }
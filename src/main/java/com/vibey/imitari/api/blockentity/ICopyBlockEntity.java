@@ -1,6 +1,8 @@
 package com.vibey.imitari.api.blockentity;
 
+import com.vibey.imitari.util.CopiedPhysics;
 import net.minecraft.world.level.block.state.BlockState;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Interface for block entities that store copied block data.
@@ -28,6 +30,18 @@ public interface ICopyBlockEntity {
      */
     BlockState getCopiedBlock();
 
+    /**
+     * Get the precomputed physics of the copied block, as seen through this CopyBlock.
+     * Implementations should keep this up to date whenever the copied block or the
+     * block state changes. The default returns null, so callers compute it on demand.
+     *
+     * @return The cached physics, or null if empty or not cached
+     */
+    @Nullable
+    default CopiedPhysics getCopiedPhysics() {
+        return null;
+    }
+
     /**
      * Set the copied block state.
      * This should trigger:
@@ -3,6 +3,8 @@ package com.vibey.imitari.api.tags;
 import com.vibey.imitari.api.CopyBlockAPI;
 import com.vibey.imitari.util.CopyBlockContext;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.resources.ResourceLocation;
 import net.minecraft.tags.TagKey;
 import net.minecraft.world.level.BlockGetter;
 import net.minecraft.world.level.block.Block;
@@ -39,6 +41,13 @@ import org.jetbrains.annotations.Nullable;
  */
 public class CopyBlockTagAPI {
 
+    /**
+     * Blocks that hide faces shared with the same block when copied (glass, ice, ...).
+     * Add entries with a datapack at {@code data/imitari/tags/blocks/culls_matching_faces.json}.
+     */
+    public static final TagKey<Block> CULLS_MATCHING_FACES =
+            TagKey.create(Registries.BLOCK, new ResourceLocation("imitari", "culls_matching_faces"));
+
     /**
      * Check if a CopyBlock's copied content has a specific tag.
      *
@@ -3,6 +3,8 @@ package com.vibey.imitari.block;
 import com.vibey.imitari.api.ICopyBlock;
 import com.vibey.imitari.blockentity.CopyBlockEntity;
 import com.vibey.imitari.compat.vs2.VS2CopyBlockIntegration;
+import com.vibey.imitari.util.CopiedPhysics;
+import com.vibey.imitari.util.MiningProgressCache;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.world.InteractionHand;
@@ -136,6 +138,7 @@ public class CopyBlockLayer extends Block implements EntityBlock, ICopyBlock {
         return baseMultiplier; // Note: Actual multiplier is scaled by layer count
     }
 
+    @Override
     public float getEffectiveMassMultiplier(BlockState state) {
         int layers = state.getValue(LAYERS);
         return baseMultiplier * layers;
@@ -168,29 +171,21 @@ public class CopyBlockLayer extends Block implements EntityBlock, ICopyBlock {
         return new CopyBlockEntity(pos, state);
     }
 
-    // Override physics methods to use effective multiplier (base * layers)
+    // Override physics methods to use effective multiplier (base * layers, see CopiedPhysics)
     @Override
     public float getExplosionResistance(BlockState state, BlockGetter level, BlockPos pos, Explosion explosion) {
-        BlockEntity be = level.getBlockEntity(pos);
-        if (be instanceof CopyBlockEntity copyBE) {
-            BlockState copiedState = copyBE.getCopiedBlock();
-            if (!copiedState.isAir()) {
-                float baseResistance = copiedState.getBlock().getExplosionResistance();
-                return baseResistance * getEffectiveMassMultiplier(state);
-            }
+        CopiedPhysics physics = CopiedPhysics.at(state, level, pos);
+        if (physics != null) {
+            return physics.explosionResistance();
         }
         return super.getExplosionResistance(state, level, pos, explosion);
     }
 
     @Override
     public float getDestroyProgress(BlockState state, Player player, BlockGetter level, BlockPos pos) {
-        BlockEntity be = level.getBlockEntity(pos);
-        if (be instanceof CopyBlockEntity copyBE) {
-            BlockState copiedState = copyBE.getCopiedBlock();
-            if (!copiedState.isAir()) {
-                float baseProgress = copiedState.getDestroyProgress(player, level, pos);
-                return baseProgress / getEffectiveMassMultiplier(state);
-            }
+        CopiedPhysics physics = CopiedPhysics.at(state, level, pos);
+        if (physics != null) {
+            return MiningProgressCache.getDestroyProgress(player, pos, physics);
         }
         return super.getDestroyProgress(state, player, level, pos);
     }
@@ -48,6 +48,14 @@ public class CopyBlockSlab extends Block implements EntityBlock, ICopyBlock {
         return 0.5f;
     }
 
+    @Override
+    public float getEffectiveMassMultiplier(BlockState state) {
+        if (state.getValue(BlockStateProperties.SLAB_TYPE) == SlabType.DOUBLE) {
+            return getMassMultiplier() * 2.0f; // Double slab = full block
+        }
+        return getMassMultiplier();
+    }
+
     // ==================== INTERACTION (CRITICAL FIX) ====================
 
     @Override
@@ -1,10 +1,18 @@
 package com.vibey.imitari.blockentity;
 
 import com.vibey.imitari.api.blockentity.ICopyBlockEntity;
+import com.vibey.imitari.client.ClientCopiedBlockSync;
 import com.vibey.imitari.client.ClientEventsHandler;
+import com.vibey.imitari.client.CopyBlockCullMask;
 import com.vibey.imitari.client.CopyBlockModel;
 import com.vibey.imitari.compat.vs2.VS2CopyBlockIntegration;
+import com.vibey.imitari.network.CopiedBlockSync;
 import com.vibey.imitari.registry.ModBlockEntities;
+import com.vibey.imitari.util.CopiedPhysics;
+import com.vibey.imitari.util.CopiedStateCodec;
+import com.vibey.imitari.util.CopiedStateIndex;
+import com.vibey.imitari.util.CopiedStatePrefetch;
+import com.vibey.imitari.util.ImitariMetrics;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.nbt.CompoundTag;
@@ -13,6 +21,8 @@ import net.minecraft.network.protocol.Packet;
 import net.minecraft.network.protocol.game.ClientGamePacketListener;
 import net.minecraft.network.protocol.game.ClientboundBlockEntityDataPacket;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.entity.BlockEntity;
@@ -30,6 +40,17 @@ public class CopyBlockEntity extends BlockEntity implements ICopyBlockEntity {
     private int virtualRotation = 0;
     private boolean removedByCreative = false;
 
+    // Physics of (block state, copied block), null when empty (see CopiedPhysics)
+    @Nullable
+    private CopiedPhysics physics = null;
+
+    // Client-side face cull mask, -1 until computed (see CopyBlockCullMask)
+    private byte cullMask = -1;
+    private int cullMaskGeneration = 0;
+
+    // Loaded from NBT before the level was attached - BE_LOADS is counted in onLoad()
+    private boolean loadPendingMetric = false;
+
     public CopyBlockEntity(BlockPos pos, BlockState blockState) {
         super(ModBlockEntities.COPY_BLOCK_ENTITY.get(), pos, blockState);
     }
@@ -41,6 +62,12 @@ public class CopyBlockEntity extends BlockEntity implements ICopyBlockEntity {
         return copiedBlock;
     }
 
+    @Nullable
+    @Override
+    public CopiedPhysics getCopiedPhysics() {
+        return physics;
+    }
+
     @Override
     public int getVirtualRotation() {
         return virtualRotation;
@@ -76,7 +103,8 @@ public class CopyBlockEntity extends BlockEntity implements ICopyBlockEntity {
                 level.sendBlockUpdated(worldPosition, getBlockState(), getBlockState(),
                         Block.UPDATE_ALL_IMMEDIATE);
             } else {
-                // Server-side: notify all clients
+                // Server-side: resync to all clients
+                CopiedBlockSync.queueChange((ServerLevel) level, worldPosition);
                 level.sendBlockUpdated(worldPosition, getBlockState(), getBlockState(),
                         Block.UPDATE_ALL);
             }
@@ -88,6 +116,9 @@ public class CopyBlockEntity extends BlockEntity implements ICopyBlockEntity {
         BlockState oldCopiedBlock = this.copiedBlock;
         this.copiedBlock = newBlock;
         this.virtualRotation = 0;
+        refreshPhysics();
+
+        CopiedStateIndex.update(level, worldPosition, newBlock);
 
         setChanged();
 
@@ -97,7 +128,9 @@ public class CopyBlockEntity extends BlockEntity implements ICopyBlockEntity {
                     level, worldPosition, getBlockState(), oldCopiedBlock
             );
 
-            // Send update packet to all clients
+            // Sync to clients through the batched section sync
+            CopiedBlockSync.queueChange((ServerLevel) level, worldPosition);
+
             level.sendBlockUpdated(worldPosition, getBlockState(), getBlockState(),
                     Block.UPDATE_ALL);
             level.updateNeighborsAt(worldPosition, getBlockState().getBlock());
@@ -106,29 +139,126 @@ public class CopyBlockEntity extends BlockEntity implements ICopyBlockEntity {
 
     // ==================== INTERNAL METHODS ====================
 
+    private void refreshPhysics() {
+        this.physics = CopiedPhysics.of(getBlockState(), copiedBlock);
+    }
+
+    /**
+     * Layer/slab changes keep the block entity - the multiplier changes with the state.
+     */
+    @Override
+    @SuppressWarnings("deprecation")
+    public void setBlockState(BlockState state) {
+        super.setBlockState(state);
+        refreshPhysics();
+    }
+
+    /**
+     * Stored face cull mask, or -1 if it must be recomputed (client main thread only).
+     *
+     * @param generation The current culling classification generation
+     */
+    public byte getCullMask(int generation) {
+        return generation == cullMaskGeneration ? cullMask : -1;
+    }
+
+    public void setCullMask(byte cullMask, int generation) {
+        this.cullMask = cullMask;
+        this.cullMaskGeneration = generation;
+    }
+
+    /**
+     * Force the cull mask to be recomputed on the next model data refresh.
+     */
+    public void invalidateCullMask() {
+        this.cullMask = -1;
+    }
+
+    /**
+     * Called by the ModelDataManager on the client main thread, where cull masks are also
+     * invalidated - so the mask is computed against the live level and never raced by meshing workers.
+     */
     @NotNull
     @Override
     public ModelData getModelData() {
-        return ModelData.builder()
-                .with(CopyBlockModel.COPIED_STATE, copiedBlock)
-                .with(CopyBlockModel.VIRTUAL_ROTATION, virtualRotation)
-                .build();
+        if (level == null) {
+            return CopyBlockCullMask.getModelData(copiedBlock, (byte) 0);
+        }
+        return CopyBlockModel.createModelData(level, worldPosition, getBlockState(), this);
     }
 
     @Override
     public void load(CompoundTag tag) {
         super.load(tag);
 
-        if (tag.contains("CopiedBlockId")) {
+        // Chunk loads have no level yet - counted in onLoad() so they land in the right dimension
+        if (level != null) {
+            if (ImitariMetrics.isEnabled()) {
+                ImitariMetrics.increment(ImitariMetrics.Counter.BE_LOADS, level);
+            }
+        } else {
+            this.loadPendingMetric = true;
+        }
+
+        // Chunk loads were decoded on the loading worker (CopiedStatePrefetch)
+        BlockState prefetched = CopiedStatePrefetch.take(tag);
+        this.copiedBlock = prefetched != null ? prefetched : decodeCopiedState(tag);
+
+        this.virtualRotation = tag.getInt("VirtualRotation");
+        this.cullMask = -1;
+        refreshPhysics();
+
+        // Chunk loads run before the level is attached - those are indexed in onLoad()
+        if (level != null) {
+            CopiedStateIndex.update(level, worldPosition, this.copiedBlock);
+        }
+
+        // Data loaded into a placed block (/setblock, templates, BlockEntityTag items,
+        // contraptions) - no per-entity packet, so push it through the section sync
+        if (level instanceof ServerLevel serverLevel) {
+            CopiedBlockSync.queueChange(serverLevel, worldPosition);
+        }
+
+        // CRITICAL: If we just loaded NBT data with copied block content, notify VS2
+        // This handles ship assembly where VS2 queries mass before BlockEntity NBT is loaded
+        if (level != null && !level.isClientSide && !this.copiedBlock.isAir()) {
+            VS2CopyBlockIntegration.onBlockEntityDataLoaded(
+                    level, worldPosition, getBlockState(), this.copiedBlock
+            );
+        }
+
+        if (level != null && level.isClientSide) {
+            requestModelDataUpdate();
+        }
+    }
+
+    /**
+     * Whether a tag carries copied block data (current or legacy format).
+     */
+    public static boolean hasCopiedData(CompoundTag tag) {
+        return tag.contains("CopiedState") || tag.contains("CopiedBlockId") || tag.contains("CopiedBlock");
+    }
+
+    /**
+     * Decode the copied block from a saved tag. Thread-safe - also used off-thread by CopiedStatePrefetch.
+     *
+     * @return The copied state, or AIR if the tag holds none or it can't be read
+     */
+    public static BlockState decodeCopiedState(CompoundTag tag) {
+        BlockState copiedBlock;
+        if (tag.contains("CopiedState")) {
+            copiedBlock = CopiedStateCodec.decode(tag.getString("CopiedState"));
+        } else if (tag.contains("CopiedBlockId")) {
+            // Legacy format (id + full state compound) - rewritten in the compact format on next save
             try {
                 String blockId = tag.getString("CopiedBlockId");
                 ResourceLocation loc = new ResourceLocation(blockId);
-                this.copiedBlock = BuiltInRegistries.BLOCK.get(loc).defaultBlockState();
+                copiedBlock = BuiltInRegistries.BLOCK.get(loc).defaultBlockState();
 
                 if (tag.contains("CopiedBlock")) {
                     try {
-                        this.copiedBlock = NbtUtils.readBlockState(
-                                level != null ? level.holderLookup(net.minecraft.core.registries.Registries.BLOCK) : null,
+                        copiedBlock = NbtUtils.readBlockState(
+                                BuiltInRegistries.BLOCK.asLookup(),
                                 tag.getCompound("CopiedBlock")
                         );
                     } catch (Exception e) {
@@ -136,45 +266,44 @@ public class CopyBlockEntity extends BlockEntity implements ICopyBlockEntity {
                     }
                 }
             } catch (Exception e) {
-                this.copiedBlock = Blocks.AIR.defaultBlockState();
+                copiedBlock = Blocks.AIR.defaultBlockState();
             }
         } else if (tag.contains("CopiedBlock")) {
             try {
-                this.copiedBlock = NbtUtils.readBlockState(
-                        level != null ? level.holderLookup(net.minecraft.core.registries.Registries.BLOCK) : null,
+                copiedBlock = NbtUtils.readBlockState(
+                        BuiltInRegistries.BLOCK.asLookup(),
                         tag.getCompound("CopiedBlock")
                 );
             } catch (Exception e) {
-                this.copiedBlock = Blocks.AIR.defaultBlockState();
+                copiedBlock = Blocks.AIR.defaultBlockState();
             }
         } else {
-            this.copiedBlock = Blocks.AIR.defaultBlockState();
-        }
-
-        this.virtualRotation = tag.getInt("VirtualRotation");
-
-        // CRITICAL: If we just loaded NBT data with copied block content, notify VS2
-        // This handles ship assembly where VS2 queries mass before BlockEntity NBT is loaded
-        if (level != null && !level.isClientSide && !this.copiedBlock.isAir()) {
-            VS2CopyBlockIntegration.onBlockEntityDataLoaded(
-                    level, worldPosition, getBlockState(), this.copiedBlock
-            );
-        }
-
-        if (level != null && level.isClientSide) {
-            requestModelDataUpdate();
+            copiedBlock = Blocks.AIR.defaultBlockState();
         }
+        return copiedBlock;
     }
 
     @Override
     public void handleUpdateTag(CompoundTag tag) {
+        // Chunk/update tags no longer carry copied data (see getUpdateTag) - don't reset to empty
+        if (!hasCopiedData(tag)) {
+            return;
+        }
+
+        BlockState oldCopiedBlock = this.copiedBlock;
         load(tag);
 
         if (level != null && level.isClientSide) {
             requestModelDataUpdate();
-            DistExecutor.unsafeRunWhenOn(Dist.CLIENT, () -> () ->
-                    ClientEventsHandler.queueBlockUpdate(worldPosition)
-            );
+
+            // Neighbours only cull differently if the copied block itself changed
+            boolean copiedChanged = oldCopiedBlock != this.copiedBlock;
+            DistExecutor.unsafeRunWhenOn(Dist.CLIENT, () -> () -> {
+                if (copiedChanged) {
+                    CopyBlockCullMask.invalidateNeighbours(level, worldPosition);
+                }
+                ClientEventsHandler.queueBlockUpdate(worldPosition, copiedChanged);
+            });
         }
     }
 
@@ -183,47 +312,96 @@ public class CopyBlockEntity extends BlockEntity implements ICopyBlockEntity {
         super.saveAdditional(tag);
 
         if (!copiedBlock.isAir()) {
-            ResourceLocation blockId = BuiltInRegistries.BLOCK.getKey(copiedBlock.getBlock());
-            tag.putString("CopiedBlockId", blockId.toString());
-            tag.put("CopiedBlock", NbtUtils.writeBlockState(this.copiedBlock));
+            tag.putString("CopiedState", CopiedStateCodec.encode(this.copiedBlock));
+        }
+
+        if (virtualRotation != 0) {
+            tag.putInt("VirtualRotation", virtualRotation);
         }
 
-        tag.putInt("VirtualRotation", virtualRotation);
+        if (ImitariMetrics.isEnabled()) {
+            int bytes = tag.sizeInBytes();
+            ImitariMetrics.increment(ImitariMetrics.Counter.BE_SAVES, level);
+            ImitariMetrics.add(ImitariMetrics.Counter.BE_BYTES_WRITTEN, level, bytes);
+            ImitariMetrics.record(ImitariMetrics.Histogram.BE_SAVE_BYTES, level, bytes);
+        }
     }
 
+    /**
+     * Copied data is synced through CopiedBlockSync (one packet per chunk section),
+     * so chunk packets carry no per-entity NBT for CopyBlocks.
+     */
     @Override
     public CompoundTag getUpdateTag() {
-        CompoundTag tag = super.getUpdateTag();
-        saveAdditional(tag);
-        return tag;
+        return super.getUpdateTag();
     }
 
+    /**
+     * No per-entity update packets - changes are batched by CopiedBlockSync.
+     */
     @Nullable
     @Override
     public Packet<ClientGamePacketListener> getUpdatePacket() {
-        return ClientboundBlockEntityDataPacket.create(this);
+        return null;
+    }
+
+    /**
+     * Apply copied data received from a section sync packet (client only).
+     *
+     * @return true if the copied block changed
+     */
+    public boolean applySyncedState(BlockState newCopiedBlock, int rotation) {
+        boolean changed = this.copiedBlock != newCopiedBlock;
+        this.copiedBlock = newCopiedBlock;
+        this.virtualRotation = rotation;
+
+        if (changed) {
+            this.cullMask = -1;
+            refreshPhysics();
+        }
+
+        CopiedStateIndex.update(level, worldPosition, newCopiedBlock);
+        requestModelDataUpdate();
+        return changed;
     }
 
     @Override
     public void onDataPacket(net.minecraft.network.Connection net, ClientboundBlockEntityDataPacket pkt) {
         CompoundTag tag = pkt.getTag();
         if (tag != null) {
+            // Queues the re-render through the batched scheduler
             handleUpdateTag(tag);
+        }
+    }
 
-            if (level != null && level.isClientSide) {
-                requestModelDataUpdate();
-                DistExecutor.unsafeRunWhenOn(Dist.CLIENT, () -> () ->
-                        ClientEventsHandler.queueBlockUpdate(worldPosition)
-                );
-
-                level.sendBlockUpdated(worldPosition, getBlockState(), getBlockState(),
-                        Block.UPDATE_ALL_IMMEDIATE);
+    @Override
+    public void onLoad() {
+        super.onLoad();
+        CopiedStateIndex.update(level, worldPosition, this.copiedBlock);
+
+        if (loadPendingMetric) {
+            loadPendingMetric = false;
+            if (ImitariMetrics.isEnabled()) {
+                ImitariMetrics.increment(ImitariMetrics.Counter.BE_LOADS, level);
             }
         }
+
+        // Copied data that arrived before this entity existed on the client
+        if (level != null && level.isClientSide) {
+            DistExecutor.unsafeRunWhenOn(Dist.CLIENT, () -> () -> ClientCopiedBlockSync.applyPending(this));
+        }
+
+        // Loaded before being attached: chunk loads are synced when watched, anything
+        // added to a chunk players already track must be pushed
+        if (level instanceof ServerLevel serverLevel && !copiedBlock.isAir()
+                && !serverLevel.getChunkSource().chunkMap.getPlayers(new ChunkPos(worldPosition), false).isEmpty()) {
+            CopiedBlockSync.queueChange(serverLevel, worldPosition);
+        }
     }
 
     @Override
     public void setRemoved() {
         super.setRemoved();
+        CopiedStateIndex.remove(level, worldPosition);
     }
 }
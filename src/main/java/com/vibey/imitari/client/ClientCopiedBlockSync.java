@@ -0,0 +1,133 @@
+package com.vibey.imitari.client;
+
+import com.vibey.imitari.Imitari;
+import com.vibey.imitari.blockentity.CopyBlockEntity;
+import com.vibey.imitari.network.CopiedSectionSyncPacket;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.client.event.ClientPlayerNetworkEvent;
+import net.minecraftforge.event.level.LevelEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Applies copied block section packets on the client in bulk.
+ *
+ * Every CopyBlockEntity in the packet is updated first, then the section is queued
+ * for a single re-render (plus boundary neighbours of blocks whose copied state changed).
+ *
+ * Entries can arrive before their block entity exists on the client (block placed and
+ * copied in the same tick). Those are kept and applied when the block entity loads,
+ * and dropped with the level on logout or level unload.
+ */
+@Mod.EventBusSubscriber(modid = Imitari.MODID, bus = Mod.EventBusSubscriber.Bus.FORGE, value = Dist.CLIENT)
+public class ClientCopiedBlockSync {
+
+    // Oldest entries are dropped past this size (blocks removed before their entity appeared)
+    private static final int MAX_PENDING = 4096;
+
+    private record Pending(BlockState copiedState, int rotation) {}
+
+    // Packed BlockPos -> copied data waiting for its block entity, in arrival order
+    private static final Long2ObjectLinkedOpenHashMap<Pending> PENDING = new Long2ObjectLinkedOpenHashMap<>();
+
+    @Nullable
+    private static ClientLevel pendingLevel = null;
+
+    public static void apply(CopiedSectionSyncPacket packet) {
+        ClientLevel level = Minecraft.getInstance().level;
+        if (level == null) {
+            return;
+        }
+
+        if (level != pendingLevel) {
+            PENDING.clear();
+            pendingLevel = level;
+        }
+
+        long sectionKey = packet.getSectionKey();
+        int originX = SectionPos.sectionToBlockCoord(SectionPos.x(sectionKey));
+        int originY = SectionPos.sectionToBlockCoord(SectionPos.y(sectionKey));
+        int originZ = SectionPos.sectionToBlockCoord(SectionPos.z(sectionKey));
+
+        BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        boolean anyApplied = false;
+
+        for (int i = 0; i < packet.size(); i++) {
+            short local = packet.getLocalPosition(i);
+            pos.set(originX + CopiedSectionSyncPacket.localX(local),
+                    originY + CopiedSectionSyncPacket.localY(local),
+                    originZ + CopiedSectionSyncPacket.localZ(local));
+
+            BlockState copiedState = Block.stateById(packet.getStateId(i));
+            BlockEntity be = level.getBlockEntity(pos);
+            if (!(be instanceof CopyBlockEntity copyBE)) {
+                // Block entity not created yet - applied in applyPending()
+                PENDING.put(pos.asLong(), new Pending(copiedState, packet.getRotation(i)));
+                if (PENDING.size() > MAX_PENDING) {
+                    PENDING.removeFirst();
+                }
+                continue;
+            }
+
+            PENDING.remove(pos.asLong());
+            boolean copiedChanged = copyBE.applySyncedState(copiedState, packet.getRotation(i));
+            anyApplied = true;
+
+            if (copiedChanged) {
+                CopyBlockCullMask.invalidateNeighbours(level, pos);
+                ClientEventsHandler.queueNeighbourSections(pos);
+            }
+        }
+
+        if (anyApplied) {
+            ClientEventsHandler.queueSectionUpdate(sectionKey);
+        }
+    }
+
+    /**
+     * Apply copied data that arrived before this block entity existed (called from onLoad).
+     */
+    public static void applyPending(CopyBlockEntity copyBE) {
+        if (PENDING.isEmpty() || copyBE.getLevel() != pendingLevel) {
+            return;
+        }
+
+        BlockPos pos = copyBE.getBlockPos();
+        Pending pending = PENDING.remove(pos.asLong());
+        if (pending == null) {
+            return;
+        }
+
+        if (copyBE.applySyncedState(pending.copiedState(), pending.rotation())) {
+            CopyBlockCullMask.invalidateNeighbours(pendingLevel, pos);
+        }
+        ClientEventsHandler.queueBlockUpdate(pos);
+    }
+
+    @SubscribeEvent
+    public static void onLoggingOut(ClientPlayerNetworkEvent.LoggingOut event) {
+        clearPending();
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() == pendingLevel) {
+            clearPending();
+        }
+    }
+
+    // Releases the last level (and its chunks) once it is gone
+    private static void clearPending() {
+        PENDING.clear();
+        pendingLevel = null;
+    }
+}
@@ -2,8 +2,13 @@ package com.vibey.imitari.client;
 
 import com.vibey.imitari.Imitari;
 import com.vibey.imitari.blockentity.CopyBlockEntity;
+import com.vibey.imitari.config.ImitariConfig;
+import it.unimi.dsi.fastutil.longs.Long2BooleanMap;
+import it.unimi.dsi.fastutil.longs.Long2BooleanOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
 import net.minecraft.client.Minecraft;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraftforge.api.distmarker.Dist;
@@ -11,50 +16,156 @@ import net.minecraftforge.event.TickEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod;
 
-import java.util.HashSet;
-import java.util.Set;
-
+/**
+ * Batched re-render scheduler for CopyBlock updates.
+ *
+ * - Queued positions are deduplicated and collapsed into packed section keys
+ * - Neighbour sections are only dirtied when the position lies on that section boundary
+ *   and the update can change what the neighbour renders (e.g. copied block changed)
+ * - At most {@code sectionRebuildsPerTick} sections are marked dirty per tick, the rest
+ *   carry over to the next tick in queue order
+ */
 @Mod.EventBusSubscriber(modid = Imitari.MODID, bus = Mod.EventBusSubscriber.Bus.FORGE, value = Dist.CLIENT)
 public class ClientEventsHandler {
-    private static final Set<BlockPos> blocksToUpdate = new HashSet<>();
+    // Packed BlockPos -> whether neighbouring sections may need a rebuild
+    private static final Long2BooleanOpenHashMap blocksToUpdate = new Long2BooleanOpenHashMap();
+    // Packed SectionPos keys waiting for a rebuild, in queue order
+    private static final LongLinkedOpenHashSet sectionsToRebuild = new LongLinkedOpenHashSet();
+
+    private static Level lastLevel = null;
 
+    /**
+     * Queue a re-render of a CopyBlock, including neighbours across section boundaries.
+     */
     public static void queueBlockUpdate(BlockPos pos) {
-        blocksToUpdate.add(pos.immutable());
+        queueBlockUpdate(pos, true);
+    }
+
+    /**
+     * Queue a re-render of a CopyBlock.
+     *
+     * @param pos The CopyBlock position
+     * @param affectsNeighbours Whether neighbouring blocks may render differently (face culling)
+     */
+    public static void queueBlockUpdate(BlockPos pos, boolean affectsNeighbours) {
+        long key = pos.asLong();
+        if (affectsNeighbours) {
+            blocksToUpdate.put(key, true);
+        } else {
+            blocksToUpdate.putIfAbsent(key, false);
+        }
+    }
+
+    /**
+     * Queue a re-render of a whole section (model data must already be refreshed).
+     */
+    public static void queueSectionUpdate(long sectionKey) {
+        sectionsToRebuild.add(sectionKey);
+    }
+
+    /**
+     * Queue the neighbouring sections a block shares a face with, if it sits on a section boundary.
+     */
+    public static void queueNeighbourSections(BlockPos pos) {
+        int sectionX = SectionPos.blockToSectionCoord(pos.getX());
+        int sectionY = SectionPos.blockToSectionCoord(pos.getY());
+        int sectionZ = SectionPos.blockToSectionCoord(pos.getZ());
+
+        int localX = SectionPos.sectionRelative(pos.getX());
+        int localY = SectionPos.sectionRelative(pos.getY());
+        int localZ = SectionPos.sectionRelative(pos.getZ());
+
+        if (localX == 0) sectionsToRebuild.add(SectionPos.asLong(sectionX - 1, sectionY, sectionZ));
+        if (localX == 15) sectionsToRebuild.add(SectionPos.asLong(sectionX + 1, sectionY, sectionZ));
+        if (localY == 0) sectionsToRebuild.add(SectionPos.asLong(sectionX, sectionY - 1, sectionZ));
+        if (localY == 15) sectionsToRebuild.add(SectionPos.asLong(sectionX, sectionY + 1, sectionZ));
+        if (localZ == 0) sectionsToRebuild.add(SectionPos.asLong(sectionX, sectionY, sectionZ - 1));
+        if (localZ == 15) sectionsToRebuild.add(SectionPos.asLong(sectionX, sectionY, sectionZ + 1));
+    }
+
+    /**
+     * Number of sections still waiting for a rebuild.
+     */
+    public static int getPendingSectionCount() {
+        return sectionsToRebuild.size();
     }
 
     @SubscribeEvent
     public static void onClientTick(TickEvent.ClientTickEvent event) {
-        if (event.phase == TickEvent.Phase.END && !blocksToUpdate.isEmpty()) {
-            Minecraft mc = Minecraft.getInstance();
-            Level level = mc.level;
-
-            if (level != null && mc.levelRenderer != null) {
-                for (BlockPos pos : blocksToUpdate) {
-                    BlockEntity be = level.getBlockEntity(pos);
-                    if (be instanceof CopyBlockEntity copyBE) {
-                        copyBE.requestModelDataUpdate();
-
-                        // Force chunk section re-render - mark ALL nearby sections dirty
-                        int chunkX = pos.getX() >> 4;
-                        int chunkY = pos.getY() >> 4;
-                        int chunkZ = pos.getZ() >> 4;
-
-                        // Mark the section and all adjacent sections as dirty
-                        for (int dx = -1; dx <= 1; dx++) {
-                            for (int dy = -1; dy <= 1; dy++) {
-                                for (int dz = -1; dz <= 1; dz++) {
-                                    mc.levelRenderer.setSectionDirty(
-                                            chunkX + dx,
-                                            chunkY + dy,
-                                            chunkZ + dz
-                                    );
-                                }
-                            }
-                        }
-                    }
-                }
-                blocksToUpdate.clear();
+        if (event.phase != TickEvent.Phase.END) {
+            return;
+        }
+
+        Minecraft mc = Minecraft.getInstance();
+        Level level = mc.level;
+
+        if (level != lastLevel) {
+            // Level changed or unloaded - queued positions belong to the old one
+            blocksToUpdate.clear();
+            sectionsToRebuild.clear();
+            lastLevel = level;
+        }
+
+        if (level == null || mc.levelRenderer == null) {
+            return;
+        }
+
+        if (!blocksToUpdate.isEmpty()) {
+            collectSections(level);
+        }
+
+        if (!sectionsToRebuild.isEmpty()) {
+            long start = ClientRenderMetrics.isEnabled() ? System.nanoTime() : 0L;
+            int budget = getRebuildBudget();
+            int dirtied = 0;
+            while (budget-- > 0 && !sectionsToRebuild.isEmpty()) {
+                long section = sectionsToRebuild.removeFirstLong();
+                mc.levelRenderer.setSectionDirty(
+                        SectionPos.x(section),
+                        SectionPos.y(section),
+                        SectionPos.z(section)
+                );
+                dirtied++;
+            }
+
+            if (ClientRenderMetrics.isEnabled()) {
+                ClientRenderMetrics.time(ClientRenderMetrics.Metric.SECTIONS_DIRTIED, dirtied, System.nanoTime() - start);
             }
         }
     }
-}
\ No newline at end of file
+
+    private static void collectSections(Level level) {
+        BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+
+        for (Long2BooleanMap.Entry entry : blocksToUpdate.long2BooleanEntrySet()) {
+            long packed = entry.getLongKey();
+            pos.set(BlockPos.getX(packed), BlockPos.getY(packed), BlockPos.getZ(packed));
+
+            BlockEntity be = level.getBlockEntity(pos);
+            if (!(be instanceof CopyBlockEntity copyBE)) {
+                continue;
+            }
+
+            copyBE.requestModelDataUpdate();
+
+            sectionsToRebuild.add(SectionPos.asLong(pos));
+
+            // Only neighbours sharing a face with this block can change, and those are
+            // in another section only when the block sits on that section's boundary
+            if (entry.getBooleanValue()) {
+                queueNeighbourSections(pos);
+            }
+        }
+
+        blocksToUpdate.clear();
+    }
+
+    private static int getRebuildBudget() {
+        try {
+            return ImitariConfig.SECTION_REBUILDS_PER_TICK.get();
+        } catch (IllegalStateException e) {
+            // Client config not loaded yet
+            return 64;
+        }
+    }
+}
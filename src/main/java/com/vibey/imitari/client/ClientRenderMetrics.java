@@ -0,0 +1,208 @@
+package com.vibey.imitari.client;
+
+import com.vibey.imitari.Imitari;
+import com.vibey.imitari.config.ImitariConfig;
+import net.minecraft.ChatFormatting;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.client.event.CustomizeGuiOverlayEvent;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.event.config.ModConfigEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Opt-in client render metrics for CopyBlock meshing.
+ *
+ * Counts (and times) CopyBlockModel.getQuads, quad cache hits/misses, remapped quads,
+ * getModelData and sections dirtied by ClientEventsHandler. Values are reported per
+ * frame and per second in the F3 screen and through {@code /imitaric stats}.
+ *
+ * Disabled by default ({@code showRenderMetrics} in imitari-client.toml). Call sites check
+ * {@link #isEnabled()} first, so when disabled nothing is counted or timed.
+ */
+@Mod.EventBusSubscriber(modid = Imitari.MODID, bus = Mod.EventBusSubscriber.Bus.FORGE, value = Dist.CLIENT)
+public class ClientRenderMetrics {
+
+    public enum Metric {
+        GET_QUADS("getQuads", true),
+        CACHE_HITS("quad cache hits", false),
+        CACHE_MISSES("quad cache misses", false),
+        REMAPPED_QUADS("remapped quads", false),
+        MODEL_DATA("getModelData", true),
+        SECTIONS_DIRTIED("sections dirtied", true);
+
+        public final String label;
+        public final boolean timed;
+
+        Metric(String label, boolean timed) {
+            this.label = label;
+            this.timed = timed;
+        }
+    }
+
+    private static final int METRICS = Metric.values().length;
+
+    // Toggled from the client thread, read on chunk-meshing workers
+    private static volatile boolean enabled = false;
+
+    private static final LongAdder[] COUNTS = new LongAdder[METRICS];
+    private static final LongAdder[] NANOS = new LongAdder[METRICS];
+
+    static {
+        for (int i = 0; i < METRICS; i++) {
+            COUNTS[i] = new LongAdder();
+            NANOS[i] = new LongAdder();
+        }
+    }
+
+    // Render thread only
+    private static final long[] lastFrameCounts = new long[METRICS];
+    private static final long[] lastFrameNanos = new long[METRICS];
+    private static final long[] frameCounts = new long[METRICS];
+    private static final long[] frameNanos = new long[METRICS];
+
+    private static final long[] windowStartCounts = new long[METRICS];
+    private static final long[] windowStartNanos = new long[METRICS];
+    private static final long[] secondCounts = new long[METRICS];
+    private static final long[] secondNanos = new long[METRICS];
+    private static long windowStart = 0;
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enable) {
+        if (enable && !enabled) {
+            reset();
+        }
+        enabled = enable;
+    }
+
+    public static void count(Metric metric, long amount) {
+        COUNTS[metric.ordinal()].add(amount);
+    }
+
+    /**
+     * Record one timed call.
+     */
+    public static void time(Metric metric, long nanos) {
+        COUNTS[metric.ordinal()].increment();
+        NANOS[metric.ordinal()].add(nanos);
+    }
+
+    /**
+     * Record a timed batch (e.g. every section dirtied in one tick).
+     */
+    public static void time(Metric metric, long amount, long nanos) {
+        COUNTS[metric.ordinal()].add(amount);
+        NANOS[metric.ordinal()].add(nanos);
+    }
+
+    public static void reset() {
+        for (int i = 0; i < METRICS; i++) {
+            COUNTS[i].reset();
+            NANOS[i].reset();
+            lastFrameCounts[i] = lastFrameNanos[i] = 0;
+            frameCounts[i] = frameNanos[i] = 0;
+            windowStartCounts[i] = windowStartNanos[i] = 0;
+            secondCounts[i] = secondNanos[i] = 0;
+        }
+        CopyBlockQuadCache.resetCounters();
+        windowStart = System.nanoTime();
+    }
+
+    private static long total(int metric) {
+        // Cache hits/misses are always counted by the cache itself
+        if (metric == Metric.CACHE_HITS.ordinal()) {
+            return CopyBlockQuadCache.getHitCount();
+        }
+        if (metric == Metric.CACHE_MISSES.ordinal()) {
+            return CopyBlockQuadCache.getMissCount();
+        }
+        return COUNTS[metric].sum();
+    }
+
+    @SubscribeEvent
+    public static void onRenderTick(TickEvent.RenderTickEvent event) {
+        if (event.phase != TickEvent.Phase.END || !enabled) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        boolean secondElapsed = now - windowStart >= 1_000_000_000L;
+
+        for (int i = 0; i < METRICS; i++) {
+            long count = total(i);
+            long nanos = NANOS[i].sum();
+
+            frameCounts[i] = count - lastFrameCounts[i];
+            frameNanos[i] = nanos - lastFrameNanos[i];
+            lastFrameCounts[i] = count;
+            lastFrameNanos[i] = nanos;
+
+            if (secondElapsed) {
+                secondCounts[i] = count - windowStartCounts[i];
+                secondNanos[i] = nanos - windowStartNanos[i];
+                windowStartCounts[i] = count;
+                windowStartNanos[i] = nanos;
+            }
+        }
+
+        if (secondElapsed) {
+            windowStart = now;
+        }
+    }
+
+    @SubscribeEvent
+    public static void onDebugText(CustomizeGuiOverlayEvent.DebugText event) {
+        if (!enabled) {
+            return;
+        }
+
+        List<String> right = event.getRight();
+        right.add("");
+        right.add(ChatFormatting.GOLD + "[Imitari] frame | per second");
+        right.addAll(getReport());
+    }
+
+    /**
+     * One line per metric: per-frame count, per-second count, per-second time.
+     */
+    public static List<String> getReport() {
+        List<String> lines = new ArrayList<>(METRICS);
+        for (Metric metric : Metric.values()) {
+            int i = metric.ordinal();
+            String line = metric.label + ": " + frameCounts[i] + " | " + secondCounts[i];
+            if (metric.timed) {
+                line += String.format(" (%.2f ms)", secondNanos[i] / 1_000_000.0);
+            }
+            lines.add(line);
+        }
+        return lines;
+    }
+
+    /**
+     * Applies showRenderMetrics from the client config.
+     */
+    @Mod.EventBusSubscriber(modid = Imitari.MODID, bus = Mod.EventBusSubscriber.Bus.MOD, value = Dist.CLIENT)
+    public static class ConfigEvents {
+
+        @SubscribeEvent
+        public static void onConfigLoad(ModConfigEvent.Loading event) {
+            if (event.getConfig().getSpec() == ImitariConfig.CLIENT_SPEC) {
+                setEnabled(ImitariConfig.SHOW_RENDER_METRICS.get());
+            }
+        }
+
+        @SubscribeEvent
+        public static void onConfigReload(ModConfigEvent.Reloading event) {
+            if (event.getConfig().getSpec() == ImitariConfig.CLIENT_SPEC) {
+                setEnabled(ImitariConfig.SHOW_RENDER_METRICS.get());
+            }
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package com.vibey.imitari.client;
+
+import com.vibey.imitari.Imitari;
+import com.vibey.imitari.api.blockentity.ICopyBlockEntity;
+import com.vibey.imitari.blockentity.CopyBlockEntity;
+import com.vibey.imitari.util.CopiedStateIndex;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.world.level.BlockAndTintGetter;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.phys.shapes.BooleanOp;
+import net.minecraft.world.phys.shapes.Shapes;
+import net.minecraft.world.phys.shapes.VoxelShape;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.client.model.data.ModelData;
+import net.minecraftforge.event.level.ChunkEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Face culling between CopyBlocks copying glass-like blocks.
+ *
+ * The result is a 6-bit mask (bit = {@link Direction#ordinal()}) stored on the CopyBlockEntity.
+ * It is only recomputed after something around the block changed:
+ * - A neighbouring block changed on the client (ClientLevelBlockChangedMixin)
+ * - The copied block of this or a neighbouring CopyBlock changed (section sync)
+ * - The neighbouring chunk was loaded
+ * - The culling classification was rebuilt ({@link CullingBlockTable})
+ *
+ * ModelData is interned per (copied state, mask), so identical CopyBlocks share one instance.
+ */
+@Mod.EventBusSubscriber(modid = Imitari.MODID, bus = Mod.EventBusSubscriber.Bus.FORGE, value = Dist.CLIENT)
+public class CopyBlockCullMask {
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    // Copied state -> ModelData per mask value
+    private static final ConcurrentHashMap<BlockState, AtomicReferenceArray<ModelData>> INTERNED = new ConcurrentHashMap<>();
+
+    private static final ModelData EMPTY_DATA = ModelData.builder()
+            .with(CopyBlockModel.COPIED_STATE, Blocks.AIR.defaultBlockState())
+            .with(CopyBlockModel.VIRTUAL_ROTATION, 0)
+            .with(CopyBlockModel.CULL_MASK, (byte) 0)
+            .build();
+
+    /**
+     * Get the shared ModelData for a copied state and cull mask.
+     */
+    public static ModelData getModelData(BlockState copiedState, byte mask) {
+        if (copiedState.isAir()) {
+            return EMPTY_DATA;
+        }
+
+        AtomicReferenceArray<ModelData> byMask = INTERNED.computeIfAbsent(copiedState, s -> new AtomicReferenceArray<>(64));
+        ModelData data = byMask.get(mask);
+        if (data == null) {
+            // Main thread and meshing workers may race - the first published instance wins
+            ModelData built = ModelData.builder()
+                    .with(CopyBlockModel.COPIED_STATE, copiedState)
+                    .with(CopyBlockModel.VIRTUAL_ROTATION, 0)
+                    .with(CopyBlockModel.CULL_MASK, mask)
+                    .build();
+            data = byMask.compareAndSet(mask, null, built) ? built : byMask.get(mask);
+        }
+        return data;
+    }
+
+    /**
+     * ModelData for positions without a CopyBlockEntity.
+     */
+    public static ModelData getEmptyModelData() {
+        return EMPTY_DATA;
+    }
+
+    /**
+     * Get the cull mask of a CopyBlock, computing it only if it was invalidated.
+     * Client main thread only (CopyBlockEntity.getModelData) - invalidation runs there too.
+     */
+    public static byte getOrCompute(CopyBlockEntity copyBE, BlockAndTintGetter level, BlockPos pos,
+                                    BlockState state, BlockState copiedState) {
+        int generation = CullingBlockTable.getGeneration();
+        byte mask = copyBE.getCullMask(generation);
+        if (mask < 0) {
+            mask = compute(level, pos, state, copiedState);
+            copyBE.setCullMask(mask, generation);
+        }
+        return mask;
+    }
+
+    /**
+     * Compute which faces are hidden by a neighbour showing the same block.
+     */
+    public static byte compute(BlockAndTintGetter level, BlockPos pos, BlockState state, BlockState copiedState) {
+        if (copiedState.isAir() || !CullingBlockTable.cullsMatchingFaces(copiedState)) {
+            return 0;
+        }
+
+        CopiedStateIndex index = CopiedStateIndex.of(level);
+        BlockPos.MutableBlockPos neighborPos = new BlockPos.MutableBlockPos();
+        byte mask = 0;
+
+        for (Direction dir : DIRECTIONS) {
+            neighborPos.setWithOffset(pos, dir);
+            BlockState neighborState = level.getBlockState(neighborPos);
+
+            // Cheap identity checks first - most neighbours never reach the shape test
+            BlockState neighborShown = getShownState(level, index, neighborPos, neighborState);
+            if (neighborShown == null || neighborShown.getBlock() != copiedState.getBlock()) {
+                continue;
+            }
+
+            if (doesNeighborCoverFace(state, neighborState, level, pos, neighborPos, dir)) {
+                mask |= (byte) (1 << dir.ordinal());
+            }
+        }
+
+        return mask;
+    }
+
+    /**
+     * The state a neighbour visually shows: its copied block for CopyBlocks, itself otherwise.
+     */
+    private static BlockState getShownState(BlockAndTintGetter level, CopiedStateIndex index,
+                                            BlockPos neighborPos, BlockState neighborState) {
+        if (!neighborState.hasBlockEntity()) {
+            return neighborState;
+        }
+
+        if (index != null) {
+            BlockState indexed = index.get(neighborPos.asLong());
+            if (indexed != null) {
+                return indexed;
+            }
+        }
+
+        BlockEntity neighborBE = level.getBlockEntity(neighborPos);
+        if (neighborBE instanceof ICopyBlockEntity neighborCopyBE) {
+            return neighborCopyBE.getCopiedBlock();
+        }
+        return neighborState;
+    }
+
+    private static boolean doesNeighborCoverFace(BlockState ourState, BlockState neighborState,
+                                                 BlockAndTintGetter level, BlockPos ourPos,
+                                                 BlockPos neighborPos, Direction dir) {
+        // Get our face's shape (the face we might cull)
+        VoxelShape ourShape = ourState.getFaceOcclusionShape(level, ourPos, dir);
+        if (ourShape.isEmpty()) {
+            return false;
+        }
+
+        // Get neighbor's shape on the opposite face (the face touching ours)
+        VoxelShape neighborShape = neighborState.getFaceOcclusionShape(level, neighborPos, dir.getOpposite());
+        if (neighborShape.isEmpty()) {
+            return false;
+        }
+
+        // Full faces are the shared Shapes.block() instance - no boolean op needed
+        if (neighborShape == Shapes.block()) {
+            return true;
+        }
+
+        // Check if neighbor's face fully contains our face
+        return !Shapes.joinIsNotEmpty(ourShape, neighborShape, BooleanOp.ONLY_FIRST);
+    }
+
+    /**
+     * Invalidate the masks of the CopyBlocks next to a position.
+     */
+    public static void invalidateNeighbours(Level level, BlockPos pos) {
+        BlockPos.MutableBlockPos neighborPos = new BlockPos.MutableBlockPos();
+        for (Direction dir : DIRECTIONS) {
+            neighborPos.setWithOffset(pos, dir);
+            invalidateAt(level, neighborPos);
+        }
+    }
+
+    /**
+     * Invalidate the mask of the CopyBlock at a position, if loaded.
+     */
+    public static void invalidateAt(Level level, BlockPos pos) {
+        if (!level.isLoaded(pos)) {
+            return;
+        }
+
+        BlockEntity be = level.getChunkAt(pos).getBlockEntity(pos, LevelChunk.EntityCreationType.CHECK);
+        if (be instanceof CopyBlockEntity copyBE) {
+            copyBE.invalidateCullMask();
+            copyBE.requestModelDataUpdate();
+        }
+    }
+
+    /**
+     * Drop interned ModelData (resource reload).
+     */
+    public static void clear() {
+        INTERNED.clear();
+    }
+
+    /**
+     * CopyBlocks on the edge of the neighbouring chunks were culled against unloaded (air) blocks.
+     */
+    @SubscribeEvent
+    public static void onChunkLoad(ChunkEvent.Load event) {
+        if (!(event.getLevel() instanceof Level level) || !level.isClientSide) {
+            return;
+        }
+
+        ChunkAccess chunk = event.getChunk();
+        int chunkX = chunk.getPos().x;
+        int chunkZ = chunk.getPos().z;
+
+        invalidateEdge(level, chunkX - 1, chunkZ, Direction.EAST);
+        invalidateEdge(level, chunkX + 1, chunkZ, Direction.WEST);
+        invalidateEdge(level, chunkX, chunkZ - 1, Direction.SOUTH);
+        invalidateEdge(level, chunkX, chunkZ + 1, Direction.NORTH);
+    }
+
+    private static void invalidateEdge(Level level, int chunkX, int chunkZ, Direction towardsLoaded) {
+        LevelChunk chunk = level.getChunkSource().getChunk(chunkX, chunkZ, false);
+        if (chunk == null) {
+            return;
+        }
+
+        for (BlockEntity be : chunk.getBlockEntities().values()) {
+            if (!(be instanceof CopyBlockEntity copyBE)) {
+                continue;
+            }
+
+            BlockPos pos = be.getBlockPos();
+            int local = towardsLoaded.getAxis() == Direction.Axis.X ? pos.getX() & 15 : pos.getZ() & 15;
+            int edge = towardsLoaded.getAxisDirection() == Direction.AxisDirection.POSITIVE ? 15 : 0;
+
+            if (local == edge) {
+                copyBE.invalidateCullMask();
+                copyBE.requestModelDataUpdate();
+            }
+        }
+    }
+}
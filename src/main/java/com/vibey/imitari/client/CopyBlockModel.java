@@ -1,6 +1,7 @@
 package com.vibey.imitari.client;
 
 import com.vibey.imitari.api.blockentity.ICopyBlockEntity;
+import com.vibey.imitari.blockentity.CopyBlockEntity;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.RenderType;
 import net.minecraft.client.renderer.block.model.BakedQuad;
@@ -12,19 +13,14 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.util.RandomSource;
 import net.minecraft.world.level.BlockAndTintGetter;
-import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
-import net.minecraft.world.phys.shapes.BooleanOp;
-import net.minecraft.world.phys.shapes.Shapes;
-import net.minecraft.world.phys.shapes.VoxelShape;
 import net.minecraftforge.client.ChunkRenderTypeSet;
 import net.minecraftforge.client.model.data.ModelData;
 import net.minecraftforge.client.model.data.ModelProperty;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -32,7 +28,10 @@ public class CopyBlockModel implements BakedModel {
 
     public static final ModelProperty<BlockState> COPIED_STATE = new ModelProperty<>();
     public static final ModelProperty<Integer> VIRTUAL_ROTATION = new ModelProperty<>();
-    public static final ModelProperty<boolean[]> CULL_FACES = new ModelProperty<>();
+    // Bit per Direction.ordinal() - set if that face is hidden by a matching neighbour
+    public static final ModelProperty<Byte> CULL_MASK = new ModelProperty<>();
+
+    private static final Direction[] DIRECTIONS = Direction.values();
 
     private final BakedModel baseModel;
 
@@ -40,6 +39,13 @@ public class CopyBlockModel implements BakedModel {
         this.baseModel = baseModel;
     }
 
+    /**
+     * The wrapped model whose quads are remapped.
+     */
+    BakedModel getBaseModel() {
+        return baseModel;
+    }
+
     @NotNull
     @Override
     public List<BakedQuad> getQuads(@Nullable BlockState state, @Nullable Direction side, @NotNull RandomSource rand) {
@@ -51,263 +57,203 @@ public class CopyBlockModel implements BakedModel {
     public List<BakedQuad> getQuads(@Nullable BlockState state, @Nullable Direction side,
                                     @NotNull RandomSource rand, @NotNull ModelData data,
                                     @Nullable RenderType renderType) {
+        if (!ClientRenderMetrics.isEnabled()) {
+            return getQuadsUntimed(state, side, rand, data, renderType);
+        }
 
-        BlockState copiedState = data.get(COPIED_STATE);
-        boolean[] cullFaces = data.get(CULL_FACES);
+        long start = System.nanoTime();
+        try {
+            return getQuadsUntimed(state, side, rand, data, renderType);
+        } finally {
+            ClientRenderMetrics.time(ClientRenderMetrics.Metric.GET_QUADS, System.nanoTime() - start);
+        }
+    }
 
-        // Get base quads - use ModelData.EMPTY to prevent infinite recursion
-        List<BakedQuad> baseQuads = baseModel.getQuads(state, side, rand, ModelData.EMPTY, renderType);
+    private List<BakedQuad> getQuadsUntimed(@Nullable BlockState state, @Nullable Direction side,
+                                            RandomSource rand, ModelData data,
+                                            @Nullable RenderType renderType) {
+        BlockState copiedState = data.get(COPIED_STATE);
+        Byte cullMask = data.get(CULL_MASK);
 
         // If no copied block, return base model as-is
+        // Use ModelData.EMPTY to prevent infinite recursion
         if (copiedState == null || copiedState.isAir()) {
-            return baseQuads;
+            return baseModel.getQuads(state, side, rand, ModelData.EMPTY, renderType);
         }
 
         // Check if this face should be culled (for glass-like behavior)
-        if (cullFaces != null && side != null && cullFaces[side.ordinal()]) {
+        if (cullMask != null && side != null && (cullMask & (1 << side.ordinal())) != 0) {
             return Collections.emptyList();
         }
 
-        // If base model has no quads, return empty (don't try to copy)
-        if (baseQuads.isEmpty()) {
-            return baseQuads;
-        }
-
         BakedModel copiedModel = Minecraft.getInstance()
                 .getBlockRenderer()
                 .getBlockModel(copiedState);
 
-        // Get ALL quads for the SPECIFIC DIRECTION we're rendering
-        List<BakedQuad> copiedFaceQuads = getCopiedFaceQuads(copiedModel, copiedState, side, rand, renderType);
-
-        if (copiedFaceQuads.isEmpty()) {
-            // Fallback to particle texture if no face quads found
-            TextureAtlasSprite fallbackSprite = copiedModel.getParticleIcon(ModelData.EMPTY);
-            List<BakedQuad> remappedQuads = new ArrayList<>(baseQuads.size());
-            for (BakedQuad quad : baseQuads) {
-                try {
-                    remappedQuads.add(remapQuadTexture(quad, fallbackSprite, quad.getTintIndex()));
-                } catch (Exception e) {
-                    remappedQuads.add(quad);
-                }
-            }
-            return remappedQuads;
+        // Random variants differ per position - only fixed models are shared
+        if (!CopyBlockQuadCache.canShare(baseModel, copiedModel)) {
+            return buildRemappedQuads(state, copiedModel, copiedState, side, rand, renderType);
         }
 
-        // For blocks with multiple textures per face (like grass),
-        // we need to handle each base quad properly
-        List<BakedQuad> remappedQuads = new ArrayList<>();
+        // Identical CopyBlocks share one remapped quad list
+        return CopyBlockQuadCache.get(baseModel, state, copiedState, side, renderType,
+                () -> buildRemappedQuads(state, copiedModel, copiedState, side, rand, renderType));
+    }
 
-        for (BakedQuad baseQuad : baseQuads) {
-            Direction baseQuadDir = baseQuad.getDirection();
+    /**
+     * Build the remapped quads. The result is copied into CopyBlockQuadCache, so it is
+     * assembled in a pooled scratch list and only the remapped quads themselves are allocated.
+     */
+    private List<BakedQuad> buildRemappedQuads(@Nullable BlockState state, BakedModel copiedModel,
+                                               BlockState copiedState, @Nullable Direction side,
+                                               RandomSource rand, @Nullable RenderType renderType) {
+        // Get base quads - use ModelData.EMPTY to prevent infinite recursion
+        List<BakedQuad> baseQuads = baseModel.getQuads(state, side, rand, ModelData.EMPTY, renderType);
 
-            // Find ALL source quads that match this direction
-            List<BakedQuad> matchingSourceQuads = findAllMatchingQuads(copiedFaceQuads, baseQuadDir);
+        // If base model has no quads, return empty (don't try to copy)
+        if (baseQuads.isEmpty()) {
+            return baseQuads;
+        }
 
-            if (!matchingSourceQuads.isEmpty()) {
-                // For each matching source quad, create a remapped version
-                for (BakedQuad sourceQuad : matchingSourceQuads) {
-                    try {
-                        remappedQuads.add(remapQuadTexture(baseQuad, sourceQuad.getSprite(), sourceQuad.getTintIndex()));
-                    } catch (Exception e) {
-                        remappedQuads.add(baseQuad);
+        List<BakedQuad> copiedFaceQuads = QuadRemapper.acquireBuffer();
+        List<BakedQuad> remappedQuads = QuadRemapper.acquireBuffer();
+        try {
+            // Get ALL quads for the SPECIFIC DIRECTION we're rendering
+            collectCopiedFaceQuads(copiedModel, copiedState, side, rand, renderType, copiedFaceQuads);
+
+            if (copiedFaceQuads.isEmpty()) {
+                // Fallback to particle texture if no face quads found
+                TextureAtlasSprite fallbackSprite = copiedModel.getParticleIcon(ModelData.EMPTY);
+                for (BakedQuad quad : baseQuads) {
+                    remappedQuads.add(tryRemap(quad, fallbackSprite, quad.getTintIndex()));
+                }
+                return List.copyOf(remappedQuads);
+            }
+
+            // For blocks with multiple textures per face (like grass),
+            // we need to handle each base quad properly
+            for (BakedQuad baseQuad : baseQuads) {
+                Direction baseQuadDir = baseQuad.getDirection();
+                boolean matched = false;
+
+                // For each source quad facing the same direction, create a remapped version
+                for (int i = 0; i < copiedFaceQuads.size(); i++) {
+                    BakedQuad sourceQuad = copiedFaceQuads.get(i);
+                    if (sourceQuad.getDirection() == baseQuadDir) {
+                        remappedQuads.add(tryRemap(baseQuad, sourceQuad.getSprite(), sourceQuad.getTintIndex()));
+                        matched = true;
                     }
                 }
-            } else {
-                // Fallback: use first source quad
-                try {
+
+                if (!matched) {
+                    // Fallback: use first source quad
                     BakedQuad sourceQuad = copiedFaceQuads.get(0);
-                    remappedQuads.add(remapQuadTexture(baseQuad, sourceQuad.getSprite(), sourceQuad.getTintIndex()));
-                } catch (Exception e) {
-                    remappedQuads.add(baseQuad);
+                    remappedQuads.add(tryRemap(baseQuad, sourceQuad.getSprite(), sourceQuad.getTintIndex()));
                 }
             }
-        }
 
-        // If we ended up with no quads after remapping, return the original base quads
-        if (remappedQuads.isEmpty()) {
-            return baseQuads;
-        }
+            // If we ended up with no quads after remapping, return the original base quads
+            if (remappedQuads.isEmpty()) {
+                return baseQuads;
+            }
 
-        return remappedQuads;
+            return List.copyOf(remappedQuads);
+        } finally {
+            QuadRemapper.releaseBuffer(remappedQuads);
+            QuadRemapper.releaseBuffer(copiedFaceQuads);
+        }
     }
 
-    private List<BakedQuad> findAllMatchingQuads(List<BakedQuad> sourceQuads, Direction targetDir) {
-        List<BakedQuad> matches = new ArrayList<>();
-        for (BakedQuad quad : sourceQuads) {
-            if (quad.getDirection() == targetDir) {
-                matches.add(quad);
-            }
+    private BakedQuad tryRemap(BakedQuad quad, TextureAtlasSprite sprite, int tintIndex) {
+        try {
+            return QuadRemapper.remap(quad, sprite, tintIndex);
+        } catch (Exception e) {
+            return quad;
         }
-        return matches;
     }
 
-    private List<BakedQuad> getCopiedFaceQuads(BakedModel copiedModel, BlockState copiedState,
-                                               @Nullable Direction side, RandomSource rand,
-                                               @Nullable RenderType renderType) {
+    private void collectCopiedFaceQuads(BakedModel copiedModel, BlockState copiedState,
+                                        @Nullable Direction side, RandomSource rand,
+                                        @Nullable RenderType renderType, List<BakedQuad> into) {
         if (side == null) {
             // For null side, get all directional quads and organize by direction
-            List<BakedQuad> allQuads = new ArrayList<>();
-
-            // Try to get face-specific quads for each direction
-            for (Direction dir : Direction.values()) {
-                List<BakedQuad> faceQuads = copiedModel.getQuads(copiedState, dir, rand, ModelData.EMPTY, renderType);
-                allQuads.addAll(faceQuads);
-            }
-
-            // If we got face quads, return those
-            if (!allQuads.isEmpty()) {
-                return allQuads;
+            for (Direction dir : DIRECTIONS) {
+                into.addAll(copiedModel.getQuads(copiedState, dir, rand, ModelData.EMPTY, renderType));
             }
 
             // Otherwise fall back to unculled quads
-            return copiedModel.getQuads(copiedState, null, rand, ModelData.EMPTY, renderType);
+            if (into.isEmpty()) {
+                into.addAll(copiedModel.getQuads(copiedState, null, rand, ModelData.EMPTY, renderType));
+            }
+            return;
         }
 
         // For specific side, get that side's quads
-        List<BakedQuad> faceQuads = copiedModel.getQuads(copiedState, side, rand, ModelData.EMPTY, renderType);
-        if (!faceQuads.isEmpty()) {
-            return faceQuads;
+        into.addAll(copiedModel.getQuads(copiedState, side, rand, ModelData.EMPTY, renderType));
+        if (!into.isEmpty()) {
+            return;
         }
 
         // Fallback: check unculled quads for this direction
-        List<BakedQuad> allQuads = copiedModel.getQuads(copiedState, null, rand, ModelData.EMPTY, renderType);
-        if (allQuads.isEmpty()) {
-            return Collections.emptyList();
-        }
-
-        List<BakedQuad> filtered = new ArrayList<>();
-        for (BakedQuad quad : allQuads) {
+        for (BakedQuad quad : copiedModel.getQuads(copiedState, null, rand, ModelData.EMPTY, renderType)) {
             if (quad.getDirection() == side) {
-                filtered.add(quad);
+                into.add(quad);
             }
         }
-        return filtered;
-    }
-
-    private BakedQuad remapQuadTexture(BakedQuad originalQuad, TextureAtlasSprite newSprite, int tintIndex) {
-        int[] vertexData = originalQuad.getVertices().clone();
-        TextureAtlasSprite oldSprite = originalQuad.getSprite();
-
-        // Remap UV coordinates from old sprite space to new sprite space
-        for (int i = 0; i < 4; i++) {
-            int offset = i * 8;  // Each vertex is 8 ints (pos xyz, color, uv, lightmap, normal)
-
-            float u = Float.intBitsToFloat(vertexData[offset + 4]);
-            float v = Float.intBitsToFloat(vertexData[offset + 5]);
-
-            // Calculate relative position in old sprite (0.0 to 1.0)
-            float relativeU = (u - oldSprite.getU0()) / (oldSprite.getU1() - oldSprite.getU0());
-            float relativeV = (v - oldSprite.getV0()) / (oldSprite.getV1() - oldSprite.getV0());
-
-            // Map to new sprite coordinates
-            float newU = newSprite.getU0() + relativeU * (newSprite.getU1() - newSprite.getU0());
-            float newV = newSprite.getV0() + relativeV * (newSprite.getV1() - newSprite.getV0());
-
-            vertexData[offset + 4] = Float.floatToRawIntBits(newU);
-            vertexData[offset + 5] = Float.floatToRawIntBits(newV);
-        }
-
-        return new BakedQuad(vertexData, tintIndex, originalQuad.getDirection(), newSprite, originalQuad.isShade());
     }
 
     @NotNull
     @Override
     public ModelData getModelData(@NotNull BlockAndTintGetter level, @NotNull BlockPos pos,
                                   @NotNull BlockState state, @NotNull ModelData modelData) {
-        BlockEntity be = level.getBlockEntity(pos);
-        if (be instanceof ICopyBlockEntity copyBE) {
-            BlockState copiedState = copyBE.getCopiedBlock();
-
-            // Calculate which faces should be culled based on neighbors
-            boolean[] cullFaces = new boolean[6];
-
-            if (copiedState != null && !copiedState.isAir()) {
-                // Check if copied block is one that should have face culling (like glass)
-                if (shouldCullMatchingFaces(copiedState)) {
-                    for (Direction dir : Direction.values()) {
-                        BlockPos neighborPos = pos.relative(dir);
-                        BlockState neighborState = level.getBlockState(neighborPos);
-                        BlockEntity neighborBE = level.getBlockEntity(neighborPos);
-
-                        // First check: does the neighbor's face fully cover ours?
-                        if (!doesNeighborCoverFace(state, neighborState, level, pos, neighborPos, dir)) {
-                            continue;
-                        }
-
-                        if (neighborBE instanceof ICopyBlockEntity neighborCopyBE) {
-                            BlockState neighborCopied = neighborCopyBE.getCopiedBlock();
-                            // Cull if neighbor is copying the same block type
-                            if (neighborCopied != null &&
-                                    neighborCopied.getBlock() == copiedState.getBlock()) {
-                                cullFaces[dir.ordinal()] = true;
-                            }
-                        } else {
-                            // Also cull against actual blocks of the same type
-                            if (neighborState.getBlock() == copiedState.getBlock()) {
-                                cullFaces[dir.ordinal()] = true;
-                            }
-                        }
-                    }
-                }
-            }
-
-            return ModelData.builder()
-                    .with(COPIED_STATE, copiedState != null ? copiedState : Blocks.AIR.defaultBlockState())
-                    .with(VIRTUAL_ROTATION, 0)
-                    .with(CULL_FACES, cullFaces)
-                    .build();
+        // CopyBlockEntity data already carries the mask, computed on the main thread
+        if (modelData.get(CULL_MASK) != null) {
+            return modelData;
         }
-        return ModelData.builder()
-                .with(COPIED_STATE, Blocks.AIR.defaultBlockState())
-                .with(VIRTUAL_ROTATION, 0)
-                .with(CULL_FACES, new boolean[6])
-                .build();
+        return createModelData(level, pos, state, null);
     }
 
-    private boolean doesNeighborCoverFace(BlockState ourState, BlockState neighborState,
-                                          BlockAndTintGetter level, BlockPos ourPos,
-                                          BlockPos neighborPos, Direction dir) {
-        // Get our face's shape (the face we might cull)
-        VoxelShape ourShape = ourState.getFaceOcclusionShape(level, ourPos, dir);
-
-        // Get neighbor's shape on the opposite face (the face touching ours)
-        Direction opposite = dir.getOpposite();
-        VoxelShape neighborShape = neighborState.getFaceOcclusionShape(level, neighborPos, opposite);
-
-        if (ourShape.isEmpty()) {
-            return false;
+    /**
+     * Model data for a CopyBlock position (copied state + cull mask), shared by all CopyBlock models.
+     *
+     * @param owner The CopyBlockEntity asking for its own data (main thread) - only then is the
+     *              mask stored on it; meshing workers compute without storing
+     */
+    public static ModelData createModelData(BlockAndTintGetter level, BlockPos pos, BlockState state,
+                                            @Nullable CopyBlockEntity owner) {
+        if (!ClientRenderMetrics.isEnabled()) {
+            return createModelDataUntimed(level, pos, state, owner);
         }
 
-        if (neighborShape.isEmpty()) {
-            return false;
+        long start = System.nanoTime();
+        try {
+            return createModelDataUntimed(level, pos, state, owner);
+        } finally {
+            ClientRenderMetrics.time(ClientRenderMetrics.Metric.MODEL_DATA, System.nanoTime() - start);
         }
-
-        // Check if neighbor's face fully contains our face
-        return Shapes.joinIsNotEmpty(ourShape, neighborShape, BooleanOp.ONLY_FIRST) == false;
     }
 
-    private boolean shouldCullMatchingFaces(BlockState state) {
-        // Glass and glass panes
-        if (state.is(Blocks.GLASS) ||
-                state.is(Blocks.TINTED_GLASS) ||
-                state.getBlock().getName().getString().toLowerCase().contains("glass")) {
-            return true;
-        }
+    private static ModelData createModelDataUntimed(BlockAndTintGetter level, BlockPos pos, BlockState state,
+                                                    @Nullable CopyBlockEntity owner) {
+        if (owner != null) {
+            BlockState copiedState = owner.getCopiedBlock();
 
-        // Ice blocks
-        if (state.is(Blocks.ICE) ||
-                state.is(Blocks.PACKED_ICE) ||
-                state.is(Blocks.BLUE_ICE)) {
-            return true;
+            // Stored mask - only recomputed after a neighbour or the copied block changed
+            byte cullMask = CopyBlockCullMask.getOrCompute(owner, level, pos, state, copiedState);
+            return CopyBlockCullMask.getModelData(copiedState, cullMask);
         }
 
-        // Slime and honey
-        if (state.is(Blocks.SLIME_BLOCK) || state.is(Blocks.HONEY_BLOCK)) {
-            return true;
+        BlockEntity be = level.getBlockEntity(pos);
+        if (be instanceof ICopyBlockEntity copyBE) {
+            // No data from the owner yet, or a third-party block entity - compute directly
+            BlockState copiedState = copyBE.getCopiedBlock();
+            if (copiedState == null) {
+                return CopyBlockCullMask.getEmptyModelData();
+            }
+            return CopyBlockCullMask.getModelData(copiedState,
+                    CopyBlockCullMask.compute(level, pos, state, copiedState));
         }
-
-        return false;
+        return CopyBlockCullMask.getEmptyModelData();
     }
 
     @Override
@@ -3,7 +3,7 @@ package com.vibey.imitari.client;
 import com.google.common.collect.Lists;
 import com.mojang.logging.LogUtils;
 import com.vibey.imitari.api.ICopyBlock;
-import net.minecraft.client.renderer.block.model.multipart.MultiPart;
+import net.minecraft.Util;
 import net.minecraft.client.resources.model.BakedModel;
 import net.minecraft.client.resources.model.MultiPartBakedModel;
 import net.minecraft.resources.ResourceLocation;
@@ -12,14 +12,17 @@ import net.minecraft.world.level.block.state.BlockState;
 import net.minecraftforge.client.event.ModelEvent;
 import net.minecraftforge.registries.ForgeRegistries;
 import org.apache.commons.lang3.tuple.Pair;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 
 import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.HashSet;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
 
 /**
@@ -29,6 +32,8 @@ public class CopyBlockModelProvider {
     private static final Logger LOGGER = LogUtils.getLogger();
     private static final Set<ResourceLocation> REGISTERED_BLOCKS = new HashSet<>();
 
+    private static Field cachedSelectorsField = null;
+
     public static void registerBlock(ResourceLocation blockId) {
         REGISTERED_BLOCKS.add(blockId);
     }
@@ -53,15 +58,20 @@ public class CopyBlockModelProvider {
 
     public static void onModelBake(ModelEvent.ModifyBakingResult event) {
         LOGGER.info("[Imitari] Starting model wrapping...");
+        long startTime = System.nanoTime();
+
+        // Models and sprites are re-baked - previously remapped quads are stale
+        CopyBlockQuadCache.clear();
+        QuadRemapper.clear();
+        CopyBlockCullMask.clear();
+        CullingBlockTable.rebuild();
 
         Map<ResourceLocation, BakedModel> modelRegistry = event.getModels();
-        int wrappedCount = 0;
+        Map<String, Set<String>> addonIndex = buildAddonIndex();
 
-        // Create a list of models to wrap (to avoid ConcurrentModificationException)
+        // Classify every model id against the index (no per-registration loop)
         List<Map.Entry<ResourceLocation, BakedModel>> toWrap = new ArrayList<>();
-
         for (Map.Entry<ResourceLocation, BakedModel> entry : modelRegistry.entrySet()) {
-            ResourceLocation modelId = entry.getKey();
             BakedModel existingModel = entry.getValue();
 
             // Skip if already wrapped
@@ -69,131 +79,144 @@ public class CopyBlockModelProvider {
                 continue;
             }
 
-            String path = modelId.getPath();
-            String namespace = modelId.getNamespace();
-            boolean shouldWrap = false;
-
-            // IMITARI MODELS: Check if this is an Imitari copy_block model
-            // Match: imitari:block/copy_block, imitari:copy_block_slab, etc.
-            if (namespace.equals("imitari")) {
-                // Match both "block/copy_block" and just "copy_block"
-                String blockName = path.contains("/") ? path.substring(path.lastIndexOf('/') + 1) : path;
-
-                if (blockName.startsWith("copy_block")) {
-                    // Exclude item models
-                    if (!path.contains("item/") && !path.endsWith("_inventory")) {
-                        shouldWrap = true;
-                        LOGGER.debug("[Imitari] Found Imitari model: {}", modelId);
-                    }
-                }
+            if (shouldWrap(entry.getKey(), addonIndex)) {
+                toWrap.add(entry);
             }
+        }
 
-            // ADDON MODELS: Check registered blocks for addon compatibility
-            if (!shouldWrap && !REGISTERED_BLOCKS.isEmpty()) {
-                for (ResourceLocation blockId : REGISTERED_BLOCKS) {
-                    if (!namespace.equals(blockId.getNamespace())) {
-                        continue;
-                    }
-
-                    String blockName = blockId.getPath();
+        LOGGER.info("[Imitari] Found {} models to wrap", toWrap.size());
 
-                    // Extract just the model name (after last /)
-                    String modelName = path.contains("/") ? path.substring(path.lastIndexOf('/') + 1) : path;
+        // Wrap in parallel on the background executor, then apply on this thread
+        List<CompletableFuture<BakedModel>> futures = new ArrayList<>(toWrap.size());
+        for (Map.Entry<ResourceLocation, BakedModel> entry : toWrap) {
+            futures.add(CompletableFuture.supplyAsync(
+                    () -> wrapModel(entry.getKey(), entry.getValue()), Util.backgroundExecutor()));
+        }
 
-                    // Match: modname:block/custom_copy_block or modname:custom_copy_block_variant
-                    if (modelName.equals(blockName) || modelName.startsWith(blockName + "_")) {
-                        // Exclude item models
-                        if (!path.contains("item/") && !path.endsWith("_inventory")) {
-                            shouldWrap = true;
-                            LOGGER.debug("[Imitari] Found registered block model: {}", modelId);
-                            break;
-                        }
-                    }
-                }
+        int wrappedCount = 0;
+        for (int i = 0; i < toWrap.size(); i++) {
+            BakedModel wrappedModel = futures.get(i).join();
+            if (wrappedModel != null) {
+                modelRegistry.put(toWrap.get(i).getKey(), wrappedModel);
+                wrappedCount++;
             }
+        }
 
-            if (shouldWrap) {
-                toWrap.add(entry);
-            }
+        LOGGER.info("[Imitari] Successfully wrapped {} CopyBlock models in {} ms",
+                wrappedCount, (System.nanoTime() - startTime) / 1_000_000);
+    }
+
+    /**
+     * Index registered addon blocks as namespace -> block names.
+     */
+    private static Map<String, Set<String>> buildAddonIndex() {
+        Map<String, Set<String>> index = new HashMap<>();
+        for (ResourceLocation blockId : REGISTERED_BLOCKS) {
+            index.computeIfAbsent(blockId.getNamespace(), ns -> new HashSet<>()).add(blockId.getPath());
         }
+        return index;
+    }
 
-        LOGGER.info("[Imitari] Found {} models to wrap", toWrap.size());
+    /**
+     * Whether a model id belongs to a CopyBlock.
+     *
+     * - Imitari models: model name starts with "copy_block" (imitari:block/copy_block, imitari:copy_block_slab, ...)
+     * - Addon models: model name equals a registered block name or extends it after an '_'
+     *   (modname:block/custom_copy_block, modname:custom_copy_block_variant)
+     * - Item and inventory models are never wrapped
+     */
+    private static boolean shouldWrap(ResourceLocation modelId, Map<String, Set<String>> addonIndex) {
+        String path = modelId.getPath();
+        String namespace = modelId.getNamespace();
 
-        // Now wrap the models
-        for (Map.Entry<ResourceLocation, BakedModel> entry : toWrap) {
-            ResourceLocation modelId = entry.getKey();
-            BakedModel existingModel = entry.getValue();
+        // Exclude item models
+        if (path.contains("item/") || path.endsWith("_inventory")) {
+            return false;
+        }
 
-            try {
-                BakedModel wrappedModel;
-
-                // Special handling for MultiPartBakedModel
-                if (existingModel instanceof MultiPartBakedModel multiPartModel) {
-                    List<Pair<Predicate<BlockState>, BakedModel>> selectors = extractSelectors(multiPartModel);
-
-                    if (selectors != null && !selectors.isEmpty()) {
-                        // Wrap each sub-model in the multipart
-                        List<Pair<Predicate<BlockState>, BakedModel>> wrappedSelectors = Lists.newArrayList();
-                        for (Pair<Predicate<BlockState>, BakedModel> pair : selectors) {
-                            BakedModel wrappedSubModel = new CopyBlockModel(pair.getRight());
-                            wrappedSelectors.add(Pair.of(pair.getLeft(), wrappedSubModel));
-                        }
-
-                        wrappedModel = new CopyBlockMultiPartModel(multiPartModel, wrappedSelectors);
-                        LOGGER.debug("[Imitari] Wrapped multipart model: {}", modelId);
-                    } else {
-                        // Couldn't extract selectors, wrap the whole thing
-                        wrappedModel = new CopyBlockModel(existingModel);
-                        LOGGER.debug("[Imitari] Wrapped as single model (multipart extraction failed): {}", modelId);
-                    }
-                } else {
-                    // Regular single model wrapping
-                    wrappedModel = new CopyBlockModel(existingModel);
-                    LOGGER.debug("[Imitari] Wrapped regular model: {}", modelId);
-                }
+        // Extract just the model name (after last /)
+        String modelName = path.substring(path.lastIndexOf('/') + 1);
 
-                modelRegistry.put(modelId, wrappedModel);
-                wrappedCount++;
+        // IMITARI MODELS
+        if (namespace.equals("imitari") && modelName.startsWith("copy_block")) {
+            LOGGER.debug("[Imitari] Found Imitari model: {}", modelId);
+            return true;
+        }
 
-            } catch (Exception e) {
-                LOGGER.error("[Imitari] Failed to wrap model: " + modelId, e);
-                // Don't wrap if there's an error - leave the original model
+        // ADDON MODELS: exact name, or any prefix ending right before an '_'
+        Set<String> blockNames = addonIndex.get(namespace);
+        if (blockNames == null) {
+            return false;
+        }
+
+        if (blockNames.contains(modelName)) {
+            LOGGER.debug("[Imitari] Found registered block model: {}", modelId);
+            return true;
+        }
+
+        for (int i = modelName.indexOf('_'); i > 0; i = modelName.indexOf('_', i + 1)) {
+            if (blockNames.contains(modelName.substring(0, i))) {
+                LOGGER.debug("[Imitari] Found registered block model: {}", modelId);
+                return true;
             }
         }
 
-        LOGGER.info("[Imitari] Successfully wrapped {} CopyBlock models", wrappedCount);
+        return false;
     }
 
     /**
-     * Extract the selectors from a MultiPartBakedModel using reflection.
-     * Returns null if extraction fails (instead of crashing).
+     * Wrap one model. Returns null if wrapping fails (the original model is kept).
      */
-    @SuppressWarnings("unchecked")
-    private static List<Pair<Predicate<BlockState>, BakedModel>> extractSelectors(MultiPartBakedModel model) {
+    @Nullable
+    private static BakedModel wrapModel(ResourceLocation modelId, BakedModel existingModel) {
         try {
-            // Try multiple possible field names (obfuscated vs unobfuscated)
-            Field selectorsField = null;
-
-            // Try unobfuscated name first
-            try {
-                selectorsField = MultiPartBakedModel.class.getDeclaredField("selectors");
-            } catch (NoSuchFieldException e) {
-                // Try to find any field that looks like selectors
-                for (Field field : MultiPartBakedModel.class.getDeclaredFields()) {
-                    // Check if it's a List type
-                    if (List.class.isAssignableFrom(field.getType())) {
-                        selectorsField = field;
-                        break;
+            // Special handling for MultiPartBakedModel
+            if (existingModel instanceof MultiPartBakedModel multiPartModel) {
+                List<Pair<Predicate<BlockState>, BakedModel>> selectors = extractSelectors(multiPartModel);
+
+                if (selectors != null && !selectors.isEmpty()) {
+                    // Wrap each sub-model in the multipart
+                    List<Pair<Predicate<BlockState>, BakedModel>> wrappedSelectors = Lists.newArrayList();
+                    for (Pair<Predicate<BlockState>, BakedModel> pair : selectors) {
+                        BakedModel wrappedSubModel = new CopyBlockModel(pair.getRight());
+                        wrappedSelectors.add(Pair.of(pair.getLeft(), wrappedSubModel));
                     }
+
+                    LOGGER.debug("[Imitari] Wrapped multipart model: {}", modelId);
+                    return new CopyBlockMultiPartModel(multiPartModel, wrappedSelectors);
                 }
+
+                // Couldn't extract selectors, wrap the whole thing
+                LOGGER.debug("[Imitari] Wrapped as single model (multipart extraction failed): {}", modelId);
+                return new CopyBlockModel(existingModel);
             }
 
+            // Regular single model wrapping
+            LOGGER.debug("[Imitari] Wrapped regular model: {}", modelId);
+            return new CopyBlockModel(existingModel);
+
+        } catch (Exception e) {
+            LOGGER.error("[Imitari] Failed to wrap model: " + modelId, e);
+            // Don't wrap if there's an error - leave the original model
+            return null;
+        }
+    }
+
+    /**
+     * Extract the selectors from a MultiPartBakedModel using reflection.
+     * Returns null if extraction fails (instead of crashing).
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    static List<Pair<Predicate<BlockState>, BakedModel>> extractSelectors(MultiPartBakedModel model) {
+        try {
+            Field selectorsField = findSelectorsField();
+
             if (selectorsField == null) {
                 LOGGER.warn("[Imitari] Could not find selectors field in MultiPartBakedModel");
                 return null;
             }
 
-            selectorsField.setAccessible(true);
             Object result = selectorsField.get(model);
 
             if (result instanceof List) {
@@ -208,6 +231,39 @@ public class CopyBlockModelProvider {
         }
     }
 
+    /**
+     * Look up the selectors field once per game session.
+     */
+    @Nullable
+    private static synchronized Field findSelectorsField() {
+        if (cachedSelectorsField != null) {
+            return cachedSelectorsField;
+        }
+
+        // Try multiple possible field names (obfuscated vs unobfuscated)
+        Field field = null;
+
+        // Try unobfuscated name first
+        try {
+            field = MultiPartBakedModel.class.getDeclaredField("selectors");
+        } catch (NoSuchFieldException e) {
+            // Try to find any field that looks like selectors
+            for (Field candidate : MultiPartBakedModel.class.getDeclaredFields()) {
+                // Check if it's a List type
+                if (List.class.isAssignableFrom(candidate.getType())) {
+                    field = candidate;
+                    break;
+                }
+            }
+        }
+
+        if (field != null) {
+            field.setAccessible(true);
+            cachedSelectorsField = field;
+        }
+        return field;
+    }
+
     public static Set<ResourceLocation> getRegisteredBlocks() {
         return new HashSet<>(REGISTERED_BLOCKS);
     }
@@ -1,6 +1,8 @@
 package com.vibey.imitari.client;
 
-import com.google.common.collect.Lists;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenCustomHashMap;
+import net.minecraft.Util;
+import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.RenderType;
 import net.minecraft.client.renderer.block.model.BakedQuad;
 import net.minecraft.client.renderer.block.model.ItemOverrides;
@@ -16,6 +18,7 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
 import java.util.BitSet;
 import java.util.Collections;
 import java.util.List;
@@ -24,15 +27,56 @@ import java.util.function.Predicate;
 
 /**
  * Wrapper for MultiPartBakedModel that applies CopyBlock texture remapping to all sub-models.
+ *
+ * Like vanilla's MultiPartBakedModel, the set of matching selectors is cached per BlockState,
+ * and sub-models are wrapped once when the model is baked.
  */
 public class CopyBlockMultiPartModel implements BakedModel {
 
     private final BakedModel baseModel;
-    private final List<Pair<Predicate<BlockState>, BakedModel>> selectors;
+    private final List<Predicate<BlockState>> predicates;
+    private final BakedModel[] subModels;
+    private final Map<BlockState, BitSet> selectorCache = new Object2ObjectOpenCustomHashMap<>(Util.identityStrategy());
 
     public CopyBlockMultiPartModel(BakedModel baseModel, List<Pair<Predicate<BlockState>, BakedModel>> selectors) {
         this.baseModel = baseModel;
-        this.selectors = selectors;
+        this.predicates = new ArrayList<>(selectors.size());
+        this.subModels = new BakedModel[selectors.size()];
+
+        for (int i = 0; i < selectors.size(); i++) {
+            Pair<Predicate<BlockState>, BakedModel> pair = selectors.get(i);
+            BakedModel subModel = pair.getRight();
+
+            // Every sub-model must remap textures - wrap the ones that aren't already
+            this.predicates.add(pair.getLeft());
+            this.subModels[i] = subModel instanceof CopyBlockModel ? subModel : new CopyBlockModel(subModel);
+        }
+    }
+
+    /**
+     * The wrapped part models, in selector order.
+     */
+    BakedModel[] getSubModels() {
+        return subModels;
+    }
+
+    /**
+     * Selectors matching a state, evaluated once per state.
+     */
+    private BitSet getSelectors(BlockState state) {
+        synchronized (selectorCache) {
+            BitSet matches = selectorCache.get(state);
+            if (matches == null) {
+                matches = new BitSet();
+                for (int i = 0; i < predicates.size(); i++) {
+                    if (predicates.get(i).test(state)) {
+                        matches.set(i);
+                    }
+                }
+                selectorCache.put(state, matches);
+            }
+            return matches;
+        }
     }
 
     @NotNull
@@ -50,25 +94,43 @@ public class CopyBlockMultiPartModel implements BakedModel {
             return Collections.emptyList();
         }
 
-        // Collect quads from all matching sub-models
-        List<BakedQuad> quads = Lists.newArrayList();
-
-        for (Pair<Predicate<BlockState>, BakedModel> pair : selectors) {
-            if (pair.getLeft().test(state)) {
-                BakedModel subModel = pair.getRight();
-
-                // If the sub-model is a CopyBlockModel, it will handle texture remapping
-                // Otherwise, wrap it on the fly
-                if (subModel instanceof CopyBlockModel) {
-                    quads.addAll(subModel.getQuads(state, side, rand, extraData, renderType));
-                } else {
-                    // Wrap and get quads
-                    CopyBlockModel wrappedModel = new CopyBlockModel(subModel);
-                    quads.addAll(wrappedModel.getQuads(state, side, rand, extraData, renderType));
-                }
-            }
+        // Culled faces are culled for every part
+        Byte cullMask = extraData.get(CopyBlockModel.CULL_MASK);
+        if (cullMask != null && side != null && (cullMask & (1 << side.ordinal())) != 0) {
+            return Collections.emptyList();
+        }
+
+        BitSet matches = getSelectors(state);
+
+        // Single part (e.g. an unconnected post) - its list is already cached and shared
+        if (matches.cardinality() == 1) {
+            return subModels[matches.nextSetBit(0)].getQuads(state, side, rand, extraData, renderType);
         }
 
+        BlockState copiedState = extraData.get(CopyBlockModel.COPIED_STATE);
+        if (copiedState == null || copiedState.isAir()) {
+            return collectQuads(matches, state, side, rand, extraData, renderType);
+        }
+
+        // Random variants of the parts or the copied block differ per position - only fixed models are shared
+        BakedModel copiedModel = Minecraft.getInstance().getBlockRenderer().getBlockModel(copiedState);
+        if (!CopyBlockQuadCache.canShare(this, copiedModel)) {
+            return collectQuads(matches, state, side, rand, extraData, renderType);
+        }
+
+        // Identical connected CopyBlocks share one combined list
+        return CopyBlockQuadCache.get(this, state, copiedState, side, renderType,
+                () -> collectQuads(matches, state, side, rand, extraData, renderType));
+    }
+
+    private List<BakedQuad> collectQuads(BitSet matches, BlockState state, @Nullable Direction side,
+                                         RandomSource rand, ModelData extraData,
+                                         @Nullable RenderType renderType) {
+        // Collect quads from all matching sub-models
+        List<BakedQuad> quads = new ArrayList<>();
+        for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+            quads.addAll(subModels[i].getQuads(state, side, rand, extraData, renderType));
+        }
         return quads;
     }
 
@@ -125,8 +187,11 @@ public class CopyBlockMultiPartModel implements BakedModel {
                                   @NotNull net.minecraft.core.BlockPos pos,
                                   @NotNull BlockState state,
                                   @NotNull ModelData modelData) {
-        // Use CopyBlockModel's logic for getting model data
-        return new CopyBlockModel(baseModel).getModelData(level, pos, state, modelData);
+        // Same model data as single CopyBlock models
+        if (modelData.get(CopyBlockModel.CULL_MASK) != null) {
+            return modelData;
+        }
+        return CopyBlockModel.createModelData(level, pos, state, null);
     }
 
     @NotNull
@@ -0,0 +1,164 @@
+package com.vibey.imitari.client;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import net.minecraft.client.renderer.RenderType;
+import net.minecraft.client.renderer.block.model.BakedQuad;
+import net.minecraft.client.resources.model.BakedModel;
+import net.minecraft.client.resources.model.MultiPartBakedModel;
+import net.minecraft.client.resources.model.SimpleBakedModel;
+import net.minecraft.core.Direction;
+import net.minecraft.world.level.block.state.BlockState;
+import org.apache.commons.lang3.tuple.Pair;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Shared cache of remapped quads for CopyBlock models.
+ *
+ * Every CopyBlock copying the same block with the same base model produces
+ * exactly the same remapped quads, so they are built once and shared as an
+ * immutable list across all chunk rebuilds.
+ *
+ * - Keyed on (base model, CopyBlock state, copied state, side, render type)
+ * - Only models known to ignore the RandomSource are cached, see {@link #canShare}
+ * - Bounded, least-recently-used entries are evicted first
+ * - Cleared on every resource reload (models and sprites are re-baked)
+ * - Safe to use from chunk-meshing worker threads
+ */
+public class CopyBlockQuadCache {
+
+    private static final int MAX_ENTRIES = 8192;
+
+    private static final Cache<Key, List<BakedQuad>> CACHE = CacheBuilder.newBuilder()
+            .maximumSize(MAX_ENTRIES)
+            .concurrencyLevel(4)
+            .build();
+
+    // Model -> whether it gives the same quads for every RandomSource, until the next reload
+    private static final ConcurrentHashMap<BakedModel, Boolean> FIXED_MODELS = new ConcurrentHashMap<>();
+
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+
+    private record Key(BakedModel baseModel, @Nullable BlockState state, BlockState copiedState,
+                       @Nullable Direction side, @Nullable RenderType renderType) {}
+
+    /**
+     * Get the remapped quads for this combination, building them on a miss.
+     * The builder's result is stored as an immutable list.
+     */
+    public static List<BakedQuad> get(BakedModel baseModel, @Nullable BlockState state, BlockState copiedState,
+                                      @Nullable Direction side, @Nullable RenderType renderType,
+                                      Supplier<List<BakedQuad>> builder) {
+        Key key = new Key(baseModel, state, copiedState, side, renderType);
+
+        List<BakedQuad> cached = CACHE.getIfPresent(key);
+        if (cached != null) {
+            HITS.increment();
+            return cached;
+        }
+
+        MISSES.increment();
+
+        // Two threads may build the same entry concurrently - both results are identical, last one wins
+        List<BakedQuad> quads = List.copyOf(builder.get());
+        CACHE.put(key, quads);
+        return quads;
+    }
+
+    /**
+     * Whether quads built from these models can be shared between positions.
+     * Weighted models (random rotations of stone, dirt, etc.) pick their variant from the
+     * position's RandomSource, which is not part of the key - only models positively known
+     * to be fixed are shared, everything else is built every time.
+     */
+    public static boolean canShare(BakedModel baseModel, BakedModel copiedModel) {
+        return isFixed(baseModel) && isFixed(copiedModel);
+    }
+
+    /**
+     * Whether a model returns the same quads whatever the RandomSource:
+     * - Plain JSON models (SimpleBakedModel)
+     * - Vanilla multipart and CopyBlock wrappers whose parts are all fixed
+     * - Anything else (weighted, other mods' wrappers) is treated as random
+     */
+    static boolean isFixed(BakedModel model) {
+        if (model.getClass() == SimpleBakedModel.class) {
+            return true;
+        }
+
+        Boolean cached = FIXED_MODELS.get(model);
+        if (cached != null) {
+            return cached;
+        }
+
+        boolean fixed = computeFixed(model);
+        FIXED_MODELS.put(model, fixed);
+        return fixed;
+    }
+
+    private static boolean computeFixed(BakedModel model) {
+        if (model instanceof CopyBlockModel copyModel) {
+            return isFixed(copyModel.getBaseModel());
+        }
+
+        if (model instanceof CopyBlockMultiPartModel multiPartModel) {
+            for (BakedModel subModel : multiPartModel.getSubModels()) {
+                if (!isFixed(subModel)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        if (model.getClass() == MultiPartBakedModel.class) {
+            List<Pair<Predicate<BlockState>, BakedModel>> selectors =
+                    CopyBlockModelProvider.extractSelectors((MultiPartBakedModel) model);
+            if (selectors == null) {
+                return false;
+            }
+            for (Pair<Predicate<BlockState>, BakedModel> selector : selectors) {
+                if (!isFixed(selector.getRight())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Drop every cached quad list. Called on resource reload.
+     */
+    public static void clear() {
+        CACHE.invalidateAll();
+        FIXED_MODELS.clear();
+    }
+
+    public static long getHitCount() {
+        return HITS.sum();
+    }
+
+    public static long getMissCount() {
+        return MISSES.sum();
+    }
+
+    public static long size() {
+        return CACHE.size();
+    }
+
+    /**
+     * Reset the hit/miss counters without touching cached entries.
+     */
+    public static void resetCounters() {
+        HITS.reset();
+        MISSES.reset();
+    }
+}
@@ -0,0 +1,95 @@
+package com.vibey.imitari.client;
+
+import com.mojang.logging.LogUtils;
+import com.vibey.imitari.Imitari;
+import com.vibey.imitari.api.CopyBlockAPI;
+import com.vibey.imitari.api.tags.CopyBlockTagAPI;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.event.TagsUpdatedEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import org.slf4j.Logger;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Which copied blocks hide faces shared with the same block (glass, ice, slime...).
+ *
+ * Classified once per Block instead of on every model data request:
+ * - Blocks in the {@code imitari:culls_matching_faces} tag
+ * - Blocks registered through {@link CopyBlockAPI#registerCullingBlock(ResourceLocation)}
+ * - Fallback heuristic: the block's name contains "glass"
+ *
+ * Rebuilt at model bake and whenever the client receives tags. Each rebuild bumps the
+ * generation so stored cull masks computed with the old classification are recomputed.
+ */
+@Mod.EventBusSubscriber(modid = Imitari.MODID, bus = Mod.EventBusSubscriber.Bus.FORGE, value = Dist.CLIENT)
+public class CullingBlockTable {
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    private static volatile Set<Block> cullingBlocks = Set.of();
+    private static final AtomicInteger GENERATION = new AtomicInteger();
+
+    /**
+     * Whether CopyBlocks copying this state cull faces against matching neighbours.
+     */
+    public static boolean cullsMatchingFaces(BlockState state) {
+        return cullingBlocks.contains(state.getBlock());
+    }
+
+    /**
+     * Classification generation, incremented on every rebuild.
+     */
+    public static int getGeneration() {
+        return GENERATION.get();
+    }
+
+    /**
+     * Classify every registered block.
+     */
+    public static void rebuild() {
+        Set<ResourceLocation> registered = CopyBlockAPI.getCullingBlocks();
+        ReferenceOpenHashSet<Block> blocks = new ReferenceOpenHashSet<>();
+
+        for (Block block : BuiltInRegistries.BLOCK) {
+            if (classify(block, registered)) {
+                blocks.add(block);
+            }
+        }
+
+        cullingBlocks = blocks;
+        GENERATION.incrementAndGet();
+        LOGGER.debug("[Imitari] Classified {} blocks as culling matching faces", blocks.size());
+    }
+
+    private static boolean classify(Block block, Set<ResourceLocation> registered) {
+        if (block.builtInRegistryHolder().is(CopyBlockTagAPI.CULLS_MATCHING_FACES)) {
+            return true;
+        }
+
+        if (!registered.isEmpty() && registered.contains(BuiltInRegistries.BLOCK.getKey(block))) {
+            return true;
+        }
+
+        // Heuristic for modded glass that isn't tagged
+        try {
+            return block.getName().getString().toLowerCase().contains("glass");
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    @SubscribeEvent
+    public static void onTagsUpdated(TagsUpdatedEvent event) {
+        // Also fired on the integrated server thread for its own reload - the client copy follows as a packet
+        if (event.getUpdateCause() == TagsUpdatedEvent.UpdateCause.CLIENT_PACKET_RECEIVED) {
+            rebuild();
+        }
+    }
+}
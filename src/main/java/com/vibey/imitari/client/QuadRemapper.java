@@ -0,0 +1,115 @@
+package com.vibey.imitari.client;
+
+import net.minecraft.client.renderer.block.model.BakedQuad;
+import net.minecraft.client.renderer.texture.TextureAtlasSprite;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Texture remapping for CopyBlock quads.
+ *
+ * Moving a UV from one atlas sprite to another is an affine map per axis
+ * ({@code u' = u * scale + offset}), so the factors are computed once per
+ * (source sprite, target sprite) pair and reused for every quad and vertex.
+ *
+ * - The only allocations per remapped quad are its vertex array and the BakedQuad itself
+ * - Scratch quad lists are pooled per thread (see {@link #acquireBuffer()})
+ * - Cleared on every resource reload (sprites are re-stitched)
+ */
+public class QuadRemapper {
+
+    // Each vertex is 8 ints (pos xyz, color, uv, lightmap, normal)
+    private static final int VERTEX_STRIDE = 8;
+    private static final int UV_OFFSET = 4;
+
+    // Source sprite -> target sprite -> {uScale, uOffset, vScale, vOffset}
+    private static final ConcurrentHashMap<TextureAtlasSprite, ConcurrentHashMap<TextureAtlasSprite, float[]>> TRANSFORMS =
+            new ConcurrentHashMap<>();
+
+    // Per-thread pool of scratch quad lists - remapping can nest (multipart sub-models,
+    // source and output lists), so each acquire takes its own list from the pool
+    private static final ThreadLocal<ArrayDeque<List<BakedQuad>>> BUFFERS = ThreadLocal.withInitial(ArrayDeque::new);
+
+    /**
+     * Get an empty scratch list for this thread. Must be handed back with {@link #releaseBuffer(List)}
+     * on the same thread, and must not escape (copy it before storing).
+     */
+    public static List<BakedQuad> acquireBuffer() {
+        List<BakedQuad> buffer = BUFFERS.get().pollFirst();
+        return buffer != null ? buffer : new ArrayList<>();
+    }
+
+    /**
+     * Return a scratch list obtained from {@link #acquireBuffer()}.
+     */
+    public static void releaseBuffer(List<BakedQuad> buffer) {
+        buffer.clear();
+        BUFFERS.get().addFirst(buffer);
+    }
+
+    /**
+     * Copy a quad onto another sprite.
+     *
+     * @param originalQuad The quad to remap
+     * @param newSprite The sprite the copy should use
+     * @param tintIndex The tint index for the copy
+     */
+    public static BakedQuad remap(BakedQuad originalQuad, TextureAtlasSprite newSprite, int tintIndex) {
+        if (ClientRenderMetrics.isEnabled()) {
+            ClientRenderMetrics.count(ClientRenderMetrics.Metric.REMAPPED_QUADS, 1);
+        }
+
+        int[] source = originalQuad.getVertices();
+        int[] vertexData = new int[source.length];
+        System.arraycopy(source, 0, vertexData, 0, source.length);
+
+        float[] transform = getTransform(originalQuad.getSprite(), newSprite);
+        float uScale = transform[0];
+        float uOffset = transform[1];
+        float vScale = transform[2];
+        float vOffset = transform[3];
+
+        for (int offset = UV_OFFSET; offset < vertexData.length; offset += VERTEX_STRIDE) {
+            float u = Float.intBitsToFloat(vertexData[offset]);
+            float v = Float.intBitsToFloat(vertexData[offset + 1]);
+
+            vertexData[offset] = Float.floatToRawIntBits(u * uScale + uOffset);
+            vertexData[offset + 1] = Float.floatToRawIntBits(v * vScale + vOffset);
+        }
+
+        return new BakedQuad(vertexData, tintIndex, originalQuad.getDirection(), newSprite, originalQuad.isShade());
+    }
+
+    private static float[] getTransform(TextureAtlasSprite oldSprite, TextureAtlasSprite newSprite) {
+        ConcurrentHashMap<TextureAtlasSprite, float[]> byTarget =
+                TRANSFORMS.computeIfAbsent(oldSprite, sprite -> new ConcurrentHashMap<>());
+
+        float[] transform = byTarget.get(newSprite);
+        if (transform == null) {
+            transform = computeTransform(oldSprite, newSprite);
+            byTarget.put(newSprite, transform);
+        }
+        return transform;
+    }
+
+    private static float[] computeTransform(TextureAtlasSprite oldSprite, TextureAtlasSprite newSprite) {
+        // newU = newU0 + (u - oldU0) / (oldU1 - oldU0) * (newU1 - newU0)
+        float uScale = (newSprite.getU1() - newSprite.getU0()) / (oldSprite.getU1() - oldSprite.getU0());
+        float vScale = (newSprite.getV1() - newSprite.getV0()) / (oldSprite.getV1() - oldSprite.getV0());
+
+        return new float[] {
+                uScale, newSprite.getU0() - oldSprite.getU0() * uScale,
+                vScale, newSprite.getV0() - oldSprite.getV0() * vScale
+        };
+    }
+
+    /**
+     * Drop all cached transforms. Called on resource reload.
+     */
+    public static void clear() {
+        TRANSFORMS.clear();
+    }
+}
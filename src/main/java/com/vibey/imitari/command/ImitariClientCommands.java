@@ -0,0 +1,73 @@
+package com.vibey.imitari.command;
+
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.context.CommandContext;
+import com.vibey.imitari.Imitari;
+import com.vibey.imitari.client.ClientRenderMetrics;
+import net.minecraft.ChatFormatting;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.network.chat.Component;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.client.event.RegisterClientCommandsEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+/**
+ * Client-only commands, under their own root so {@code /imitari} still reaches the server.
+ * Forge only forwards a command to the server when the client dispatcher does not know it.
+ *
+ * - {@code /imitaric stats} - CopyBlock render metrics (per frame | per second)
+ * - {@code /imitaric stats on|off} - start/stop measuring for this session
+ * - {@code /imitaric stats reset} - zero the render metrics
+ */
+@Mod.EventBusSubscriber(modid = Imitari.MODID, bus = Mod.EventBusSubscriber.Bus.FORGE, value = Dist.CLIENT)
+public class ImitariClientCommands {
+
+    @SubscribeEvent
+    public static void onRegisterClientCommands(RegisterClientCommandsEvent event) {
+        register(event.getDispatcher());
+    }
+
+    public static final String ROOT = Imitari.MODID + "c";
+
+    private static void register(CommandDispatcher<CommandSourceStack> dispatcher) {
+        dispatcher.register(Commands.literal(ROOT)
+                .then(Commands.literal("stats")
+                        .executes(ImitariClientCommands::showStats)
+                        .then(Commands.literal("on")
+                                .executes(context -> setEnabled(context, true)))
+                        .then(Commands.literal("off")
+                                .executes(context -> setEnabled(context, false)))
+                        .then(Commands.literal("reset")
+                                .executes(ImitariClientCommands::resetStats))));
+    }
+
+    private static int showStats(CommandContext<CommandSourceStack> context) {
+        CommandSourceStack source = context.getSource();
+
+        if (!ClientRenderMetrics.isEnabled()) {
+            source.sendFailure(Component.literal("Imitari render metrics are off (/imitaric stats on)"));
+            return 0;
+        }
+
+        source.sendSuccess(() -> Component.literal("[Imitari] frame | per second").withStyle(ChatFormatting.GOLD), false);
+        for (String line : ClientRenderMetrics.getReport()) {
+            source.sendSuccess(() -> Component.literal("  " + line), false);
+        }
+        return 1;
+    }
+
+    private static int setEnabled(CommandContext<CommandSourceStack> context, boolean enable) {
+        ClientRenderMetrics.setEnabled(enable);
+        context.getSource().sendSuccess(() -> Component.literal(
+                "Imitari render metrics " + (enable ? "on" : "off")), false);
+        return 1;
+    }
+
+    private static int resetStats(CommandContext<CommandSourceStack> context) {
+        ClientRenderMetrics.reset();
+        context.getSource().sendSuccess(() -> Component.literal("Imitari render metrics reset"), false);
+        return 1;
+    }
+}
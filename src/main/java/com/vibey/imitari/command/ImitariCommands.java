@@ -0,0 +1,96 @@
+package com.vibey.imitari.command;
+
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.context.CommandContext;
+import com.vibey.imitari.Imitari;
+import com.vibey.imitari.util.ImitariMetrics;
+import net.minecraft.ChatFormatting;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.network.chat.Component;
+import net.minecraftforge.event.RegisterCommandsEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import java.util.Map;
+
+/**
+ * Server commands.
+ *
+ * - {@code /imitari stats} - metrics per dimension (requires enableMetrics)
+ * - {@code /imitari stats reset} - zero all metrics
+ */
+@Mod.EventBusSubscriber(modid = Imitari.MODID)
+public class ImitariCommands {
+
+    @SubscribeEvent
+    public static void onRegisterCommands(RegisterCommandsEvent event) {
+        register(event.getDispatcher());
+    }
+
+    private static void register(CommandDispatcher<CommandSourceStack> dispatcher) {
+        dispatcher.register(Commands.literal(Imitari.MODID)
+                .requires(source -> source.hasPermission(2))
+                .then(Commands.literal("stats")
+                        .executes(ImitariCommands::showStats)
+                        .then(Commands.literal("reset")
+                                .executes(ImitariCommands::resetStats))));
+    }
+
+    private static int showStats(CommandContext<CommandSourceStack> context) {
+        CommandSourceStack source = context.getSource();
+
+        if (!ImitariMetrics.isEnabled()) {
+            source.sendFailure(Component.literal("Imitari metrics are disabled (set enableMetrics = true in imitari.toml)"));
+            return 0;
+        }
+
+        Map<String, ImitariMetrics.DimensionStats> stats = ImitariMetrics.getStats();
+        if (stats.isEmpty()) {
+            source.sendSuccess(() -> Component.literal("No Imitari metrics recorded yet"), false);
+            return 0;
+        }
+
+        for (Map.Entry<String, ImitariMetrics.DimensionStats> entry : stats.entrySet()) {
+            String dimension = entry.getKey();
+            ImitariMetrics.DimensionStats dimensionStats = entry.getValue();
+
+            source.sendSuccess(() -> Component.literal(dimension).withStyle(ChatFormatting.GOLD), false);
+            for (ImitariMetrics.Counter counter : ImitariMetrics.Counter.values()) {
+                long value = dimensionStats.get(counter);
+                if (value != 0) {
+                    source.sendSuccess(() -> Component.literal("  " + counter.id + ": " + value), false);
+                }
+            }
+            for (ImitariMetrics.Histogram histogram : ImitariMetrics.Histogram.values()) {
+                String buckets = formatBuckets(dimensionStats.getBuckets(histogram));
+                if (!buckets.isEmpty()) {
+                    source.sendSuccess(() -> Component.literal("  " + histogram.id + ": " + buckets)
+                            .withStyle(ChatFormatting.GRAY), false);
+                }
+            }
+        }
+
+        return stats.size();
+    }
+
+    private static String formatBuckets(long[] buckets) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < buckets.length; i++) {
+            if (buckets[i] == 0) {
+                continue;
+            }
+            if (!builder.isEmpty()) {
+                builder.append(' ');
+            }
+            builder.append('<').append(ImitariMetrics.bucketUpperBound(i)).append('=').append(buckets[i]);
+        }
+        return builder.toString();
+    }
+
+    private static int resetStats(CommandContext<CommandSourceStack> context) {
+        ImitariMetrics.reset();
+        context.getSource().sendSuccess(() -> Component.literal("Imitari metrics reset"), true);
+        return 1;
+    }
+}
@@ -4,6 +4,8 @@ import com.mojang.logging.LogUtils;
 import com.vibey.imitari.api.ICopyBlock;
 import com.vibey.imitari.api.blockentity.ICopyBlockEntity;
 import com.vibey.imitari.registry.ModBlocks;
+import com.vibey.imitari.util.ImitariMetrics;
+import com.vibey.imitari.util.MassMultiplierTable;
 import net.minecraft.core.BlockPos;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Block;
@@ -19,7 +21,6 @@ import rbasamoyai.createbigcannons.block_armor_properties.mimicking_blocks.Abstr
 import rbasamoyai.createbigcannons.block_armor_properties.mimicking_blocks.MimickingBlockArmorUnit;
 
 import java.lang.reflect.Field;
-import java.lang.reflect.Method;
 import java.util.Map;
 
 /**
@@ -184,6 +185,10 @@ public class CBCIntegrationImpl {
          */
         @Override
         public double hardness(Level level, BlockState state, BlockPos pos, boolean recurse) {
+            if (ImitariMetrics.isEnabled()) {
+                ImitariMetrics.increment(ImitariMetrics.Counter.CBC_ARMOR_LOOKUPS, level);
+            }
+
             BlockState copiedState = this.getCopiedState(level, state, pos);
 
             // Empty CopyBlock - use default empty hardness
@@ -213,6 +218,10 @@ public class CBCIntegrationImpl {
          */
         @Override
         public double toughness(Level level, BlockState state, BlockPos pos, boolean recurse) {
+            if (ImitariMetrics.isEnabled()) {
+                ImitariMetrics.increment(ImitariMetrics.Counter.CBC_ARMOR_LOOKUPS, level);
+            }
+
             BlockState copiedState = this.getCopiedState(level, state, pos);
 
             // Empty CopyBlock - use default empty toughness
@@ -245,26 +254,7 @@ public class CBCIntegrationImpl {
          * - All others: just the base mass multiplier
          */
         private float getEffectiveMassMultiplier(BlockState state) {
-            Block block = state.getBlock();
-            if (!(block instanceof ICopyBlock copyBlock)) {
-                return 1.0f;
-            }
-
-            // Try to get getEffectiveMassMultiplier method (for layers, double slabs, etc.)
-            try {
-                Method method = block.getClass().getMethod("getEffectiveMassMultiplier", BlockState.class);
-                Object result = method.invoke(block, state);
-                if (result instanceof Float) {
-                    return (Float) result;
-                }
-            } catch (NoSuchMethodException e) {
-                // Expected - most blocks don't have this method
-            } catch (Exception e) {
-                // Silently continue to fallback
-            }
-
-            // Fallback to base mass multiplier
-            return copyBlock.getMassMultiplier();
+            return MassMultiplierTable.get(state);
         }
     }
 }
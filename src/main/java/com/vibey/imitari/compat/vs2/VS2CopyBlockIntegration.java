@@ -1,6 +1,7 @@
 package com.vibey.imitari.compat.vs2;
 
 import com.mojang.logging.LogUtils;
+import com.vibey.imitari.util.ImitariMetrics;
 import net.minecraft.core.BlockPos;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.state.BlockState;
@@ -9,7 +10,8 @@ import org.slf4j.Logger;
 
 /**
  * Safe wrapper for VS2 integration that has NO direct VS2 dependencies.
- * All VS2-specific code is in VS2CopyBlockIntegrationImpl and loaded via reflection.
+ * All VS2-specific code is in VS2CopyBlockIntegrationImpl, which is loaded via reflection
+ * once at register() and then called through the typed {@link VS2MassService}.
  *
  * This allows Imitari to work without VS2 installed.
  */
@@ -19,6 +21,9 @@ public class VS2CopyBlockIntegration {
     private static boolean CHECKED = false;
     private static boolean INTEGRATION_FAILED = false;
 
+    // Resolved once in register(); no-op until then or without VS2
+    private static volatile VS2MassService service = VS2MassService.NO_OP;
+
     /**
      * Check if VS2 is available.
      * Safe to call from anywhere.
@@ -44,7 +49,7 @@ public class VS2CopyBlockIntegration {
     }
 
     /**
-     * Register the CopyBlock mass provider with VS2.
+     * Register the CopyBlock mass provider with VS2 and resolve the mass service.
      * Called during mod initialization.
      */
     public static void register() {
@@ -53,13 +58,15 @@ public class VS2CopyBlockIntegration {
         }
 
         try {
+            // The only reflective access - the impl class must not load without VS2
             Class<?> implClass = Class.forName("com.vibey.imitari.compat.vs2.VS2CopyBlockIntegrationImpl");
-            var registerMethod = implClass.getMethod("register");
-            registerMethod.invoke(null);
+            implClass.getMethod("register").invoke(null);
+            service = (VS2MassService) implClass.getField("SERVICE").get(null);
             LOGGER.info("VS2 integration registered successfully");
         } catch (Exception e) {
             LOGGER.error("Failed to register VS2 integration", e);
             INTEGRATION_FAILED = true;
+            service = VS2MassService.NO_OP;
         }
     }
 
@@ -69,15 +76,12 @@ public class VS2CopyBlockIntegration {
     public static void updateCopyBlockMass(Level level, BlockPos pos,
                                            BlockState copyBlockState,
                                            BlockState oldCopiedBlock) {
-        if (!isAvailable()) {
-            return;
+        if (ImitariMetrics.isEnabled()) {
+            ImitariMetrics.increment(ImitariMetrics.Counter.VS2_MASS_NOTIFICATIONS, level);
         }
 
         try {
-            Class<?> implClass = Class.forName("com.vibey.imitari.compat.vs2.VS2CopyBlockIntegrationImpl");
-            var method = implClass.getMethod("updateCopyBlockMass",
-                    Level.class, BlockPos.class, BlockState.class, BlockState.class);
-            method.invoke(null, level, pos, copyBlockState, oldCopiedBlock);
+            service.updateCopyBlockMass(level, pos, copyBlockState, oldCopiedBlock);
         } catch (Exception e) {
             LOGGER.error("Failed to update VS2 copy block mass", e);
         }
@@ -89,15 +93,12 @@ public class VS2CopyBlockIntegration {
     public static void onBlockEntityDataLoaded(Level level, BlockPos pos,
                                                BlockState state,
                                                BlockState copiedBlock) {
-        if (!isAvailable()) {
-            return;
+        if (ImitariMetrics.isEnabled()) {
+            ImitariMetrics.increment(ImitariMetrics.Counter.VS2_MASS_NOTIFICATIONS, level);
         }
 
         try {
-            Class<?> implClass = Class.forName("com.vibey.imitari.compat.vs2.VS2CopyBlockIntegrationImpl");
-            var method = implClass.getMethod("onBlockEntityDataLoaded",
-                    Level.class, BlockPos.class, BlockState.class, BlockState.class);
-            method.invoke(null, level, pos, state, copiedBlock);
+            service.onBlockEntityDataLoaded(level, pos, state, copiedBlock);
         } catch (Exception e) {
             LOGGER.error("Failed to notify VS2 of block entity data load", e);
         }
@@ -109,15 +110,12 @@ public class VS2CopyBlockIntegration {
     public static void onBlockStateChanged(Level level, BlockPos pos,
                                            BlockState oldState,
                                            BlockState newState) {
-        if (!isAvailable()) {
-            return;
+        if (ImitariMetrics.isEnabled()) {
+            ImitariMetrics.increment(ImitariMetrics.Counter.VS2_MASS_NOTIFICATIONS, level);
         }
 
         try {
-            Class<?> implClass = Class.forName("com.vibey.imitari.compat.vs2.VS2CopyBlockIntegrationImpl");
-            var method = implClass.getMethod("onBlockStateChanged",
-                    Level.class, BlockPos.class, BlockState.class, BlockState.class);
-            method.invoke(null, level, pos, oldState, newState);
+            service.onBlockStateChanged(level, pos, oldState, newState);
         } catch (Exception e) {
             LOGGER.error("Failed to notify VS2 of block state change", e);
         }
@@ -131,17 +129,14 @@ public class VS2CopyBlockIntegration {
     public static void onBlockRemoved(Level level, BlockPos pos,
                                       BlockState state,
                                       BlockState copiedBlock) {
-        if (!isAvailable()) {
-            return;
+        if (ImitariMetrics.isEnabled()) {
+            ImitariMetrics.increment(ImitariMetrics.Counter.VS2_MASS_NOTIFICATIONS, level);
         }
 
         try {
-            Class<?> implClass = Class.forName("com.vibey.imitari.compat.vs2.VS2CopyBlockIntegrationImpl");
-            var method = implClass.getMethod("onBlockRemoved",
-                    Level.class, BlockPos.class, BlockState.class, BlockState.class);
-            method.invoke(null, level, pos, state, copiedBlock);
+            service.onBlockRemoved(level, pos, state, copiedBlock);
         } catch (Exception e) {
             LOGGER.error("Failed to notify VS2 of block removal", e);
         }
     }
-}
\ No newline at end of file
+}
@@ -3,35 +3,66 @@ package com.vibey.imitari.compat.vs2;
 import com.vibey.imitari.Imitari;
 import com.vibey.imitari.api.ICopyBlock;
 import com.vibey.imitari.api.blockentity.ICopyBlockEntity;
-import com.vibey.imitari.block.CopyBlockLayer;
-import kotlin.Pair;
+import com.vibey.imitari.util.CopiedStateIndex;
+import com.vibey.imitari.util.ImitariMetrics;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Registry;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.level.LevelEvent;
 import org.jetbrains.annotations.Nullable;
 import org.valkyrienskies.core.internal.world.chunks.VsiBlockType;
 import org.valkyrienskies.mod.common.BlockStateInfo;
 import org.valkyrienskies.mod.common.BlockStateInfoProvider;
 import org.valkyrienskies.mod.common.VSGameUtilsKt;
 
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.DoubleSupplier;
+
 /**
  * Simplified VS2 integration that provides accurate mass without complex tracking.
  *
  * Key principle: Just provide the correct mass when VS2 queries it.
- * No complex old/new mass tracking needed.
+ * Corrections for changes VS2 can't see (copied block, NBT load) are buffered
+ * per position and flushed once at the end of each level tick. Removals are sent at once,
+ * before VS2 processes its own solid -> air update.
  */
 public class VS2CopyBlockIntegrationImpl implements BlockStateInfoProvider {
     public static final VS2CopyBlockIntegrationImpl INSTANCE = new VS2CopyBlockIntegrationImpl();
 
     private static final double EMPTY_COPY_BLOCK_MASS = 10.0;
 
-    // Simple thread-local context for BlockEntity access during getBlockStateMass
-    private static final ThreadLocal<Context> CURRENT_CONTEXT = new ThreadLocal<>();
+    /**
+     * Typed entry point for the VS2CopyBlockIntegration facade.
+     */
+    public static final VS2MassService SERVICE = new VS2MassService() {
+        @Override
+        public void updateCopyBlockMass(Level level, BlockPos pos, BlockState copyBlockState, BlockState oldCopiedBlock) {
+            VS2CopyBlockIntegrationImpl.updateCopyBlockMass(level, pos, copyBlockState, oldCopiedBlock);
+        }
+
+        @Override
+        public void onBlockEntityDataLoaded(Level level, BlockPos pos, BlockState state, BlockState copiedBlock) {
+            VS2CopyBlockIntegrationImpl.onBlockEntityDataLoaded(level, pos, state, copiedBlock);
+        }
+
+        @Override
+        public void onBlockStateChanged(Level level, BlockPos pos, BlockState oldState, BlockState newState) {
+            VS2CopyBlockIntegrationImpl.onBlockStateChanged(level, pos, oldState, newState);
+        }
 
-    private record Context(Level level, BlockPos pos) {}
+        @Override
+        public void onBlockRemoved(Level level, BlockPos pos, BlockState state, BlockState copiedBlock) {
+            VS2CopyBlockIntegrationImpl.onBlockRemoved(level, pos, state, copiedBlock);
+        }
+    };
 
     @Override
     public int getPriority() {
@@ -40,7 +71,10 @@ public class VS2CopyBlockIntegrationImpl implements BlockStateInfoProvider {
 
     /**
      * VS2 calls this to get the mass of a block.
-     * We calculate: (copied block mass) * (effective multiplier from block state)
+     *
+     * VS2's provider API has no position, so the copied block can't be known here -
+     * every dynamic-mass CopyBlock reports the empty mass and the real mass is applied
+     * through the position-aware corrections below.
      */
     @Nullable
     @Override
@@ -53,77 +87,52 @@ public class VS2CopyBlockIntegrationImpl implements BlockStateInfoProvider {
             return null; // Exclude from VS2 mass calculation
         }
 
-        // Need context to access BlockEntity
-        Context ctx = CURRENT_CONTEXT.get();
-        if (ctx == null) {
-            return EMPTY_COPY_BLOCK_MASS; // No context = assume empty
-        }
+        return EMPTY_COPY_BLOCK_MASS;
+    }
 
-        BlockEntity be = ctx.level.getBlockEntity(ctx.pos);
-        if (!(be instanceof ICopyBlockEntity copyBE)) {
+    @Nullable
+    @Override
+    public VsiBlockType getBlockStateType(BlockState blockState) {
+        return null; // Let other providers handle this
+    }
+
+    // ==================== HELPER METHODS ====================
+
+    /**
+     * Mass of a block at a position: (copied block mass) * (effective multiplier from block state).
+     * Copied state comes from the level's CopiedStateIndex, which covers ship (shipyard) positions too.
+     */
+    private static double getCurrentMass(Level level, BlockPos pos, BlockState state) {
+        if (!(state.getBlock() instanceof ICopyBlock copyBlock) || !copyBlock.useDynamicMass()) {
             return EMPTY_COPY_BLOCK_MASS;
         }
 
-        BlockState copiedBlock = copyBE.getCopiedBlock();
+        BlockState copiedBlock = getCopiedBlock(level, pos);
 
         // Empty CopyBlock = always 10kg
         if (copiedBlock == null || copiedBlock.isAir()) {
             return EMPTY_COPY_BLOCK_MASS;
         }
 
-        // Has copied block = (copied mass) * (effective multiplier)
-        Pair<Double, VsiBlockType> copiedInfo = BlockStateInfo.INSTANCE.get(copiedBlock);
-        double copiedMass = (copiedInfo != null && copiedInfo.getFirst() != null)
-                ? copiedInfo.getFirst()
-                : 50.0; // Default fallback
-
-        float effectiveMultiplier = getEffectiveMassMultiplier(blockState, copyBlock);
-
-        return copiedMass * effectiveMultiplier;
+        return VS2MassCache.getEffectiveMass(state, copiedBlock, copyBlock);
     }
 
-    /**
-     * Calculate effective mass multiplier based on block state.
-     * Handles layers (1-8), double slabs (2x), etc.
-     */
-    private float getEffectiveMassMultiplier(BlockState state, ICopyBlock copyBlock) {
-        // CopyBlockLayer: base multiplier * layer count
-        if (copyBlock instanceof CopyBlockLayer layerBlock) {
-            return layerBlock.getEffectiveMassMultiplier(state);
-        }
-
-        // Double slab: 2x base multiplier
-        if (state.hasProperty(net.minecraft.world.level.block.state.properties.BlockStateProperties.SLAB_TYPE)) {
-            var slabType = state.getValue(net.minecraft.world.level.block.state.properties.BlockStateProperties.SLAB_TYPE);
-            if (slabType == net.minecraft.world.level.block.state.properties.SlabType.DOUBLE) {
-                return copyBlock.getMassMultiplier() * 2.0f;
+    @Nullable
+    private static BlockState getCopiedBlock(Level level, BlockPos pos) {
+        CopiedStateIndex index = CopiedStateIndex.of(level);
+        if (index != null) {
+            BlockState indexed = index.get(pos.asLong());
+            if (indexed != null) {
+                return indexed;
             }
         }
 
-        // Default: just the base multiplier
-        return copyBlock.getMassMultiplier();
-    }
-
-    @Nullable
-    @Override
-    public VsiBlockType getBlockStateType(BlockState blockState) {
-        return null; // Let other providers handle this
-    }
-
-    // ==================== HELPER METHODS ====================
-
-    /**
-     * Query the current mass of a block.
-     * Sets context, calls getBlockStateMass, then clears context.
-     */
-    private static double getCurrentMass(Level level, BlockPos pos, BlockState state) {
-        CURRENT_CONTEXT.set(new Context(level, pos));
-        try {
-            Double mass = INSTANCE.getBlockStateMass(state);
-            return mass != null ? mass : EMPTY_COPY_BLOCK_MASS;
-        } finally {
-            CURRENT_CONTEXT.remove();
+        // Not indexed yet - read the block entity
+        BlockEntity be = level.getBlockEntity(pos);
+        if (be instanceof ICopyBlockEntity copyBE) {
+            return copyBE.getCopiedBlock();
         }
+        return null;
     }
 
     /**
@@ -137,17 +146,12 @@ public class VS2CopyBlockIntegrationImpl implements BlockStateInfoProvider {
             return EMPTY_COPY_BLOCK_MASS;
         }
 
-        Pair<Double, VsiBlockType> copiedInfo = BlockStateInfo.INSTANCE.get(copiedBlock);
-        double copiedMass = (copiedInfo != null && copiedInfo.getFirst() != null)
-                ? copiedInfo.getFirst()
-                : 50.0;
-
-        float effectiveMultiplier = INSTANCE.getEffectiveMassMultiplier(copyBlockState, copyBlock);
-
-        return copiedMass * effectiveMultiplier;
+        return VS2MassCache.getEffectiveMass(copyBlockState, copiedBlock, copyBlock);
     }
 
     // ==================== PUBLIC NOTIFICATION METHODS ====================
+    // Each notification only records the mass VS2 currently believes in. The new mass is
+    // computed once per position when the buffer is flushed at the end of the level tick.
 
     /**
      * Notify VS2 when the copied block changes.
@@ -160,29 +164,9 @@ public class VS2CopyBlockIntegrationImpl implements BlockStateInfoProvider {
         if (!(copyBlockState.getBlock() instanceof ICopyBlock copyBlock)) return;
         if (!copyBlock.useDynamicMass()) return; // Don't notify VS2 if excluded from mass calculation
 
-        var shipWorld = VSGameUtilsKt.getShipObjectWorld(level);
-        if (shipWorld == null) return;
-
-        // Calculate old mass (with old copied block)
-        double oldMass = calculateMassWithCopiedBlock(copyBlockState, oldCopiedBlock, copyBlock);
-
-        // Calculate new mass (with current copied block from BlockEntity)
-        double newMass = getCurrentMass(level, pos, copyBlockState);
-
-        // Only notify if mass actually changed
-        if (Math.abs(oldMass - newMass) < 0.001) return;
-
-        Pair<Double, VsiBlockType> blockInfo = BlockStateInfo.INSTANCE.get(copyBlockState);
-        if (blockInfo == null) return;
-
-        shipWorld.onSetBlock(
-                pos.getX(), pos.getY(), pos.getZ(),
-                VSGameUtilsKt.getDimensionId(level),
-                blockInfo.getSecond(),
-                blockInfo.getSecond(),
-                oldMass,
-                newMass
-        );
+        // Old mass = with the old copied block
+        queueMassChange(level, pos, copyBlockState,
+                () -> calculateMassWithCopiedBlock(copyBlockState, oldCopiedBlock, copyBlock));
     }
 
     /**
@@ -200,26 +184,8 @@ public class VS2CopyBlockIntegrationImpl implements BlockStateInfoProvider {
         // Only matters if we actually have copied content
         if (copiedBlock == null || copiedBlock.isAir()) return;
 
-        var shipWorld = VSGameUtilsKt.getShipObjectWorld(level);
-        if (shipWorld == null) return;
-
         // Old mass = what VS2 saw before NBT load (always 10kg for empty)
-        double oldMass = EMPTY_COPY_BLOCK_MASS;
-
-        // New mass = correct mass now that NBT is loaded
-        double newMass = getCurrentMass(level, pos, state);
-
-        Pair<Double, VsiBlockType> blockInfo = BlockStateInfo.INSTANCE.get(state);
-        if (blockInfo == null) return;
-
-        shipWorld.onSetBlock(
-                pos.getX(), pos.getY(), pos.getZ(),
-                VSGameUtilsKt.getDimensionId(level),
-                blockInfo.getSecond(),
-                blockInfo.getSecond(),
-                oldMass,
-                newMass
-        );
+        queueMassChange(level, pos, state, () -> EMPTY_COPY_BLOCK_MASS);
     }
 
     /**
@@ -242,66 +208,142 @@ public class VS2CopyBlockIntegrationImpl implements BlockStateInfoProvider {
         // No copied block = mass is always 10kg regardless of layers/slab type
         if (copiedBlock == null || copiedBlock.isAir()) return;
 
-        // Calculate mass with both states
-        float oldMultiplier = INSTANCE.getEffectiveMassMultiplier(oldState, copyBlock);
-        float newMultiplier = INSTANCE.getEffectiveMassMultiplier(newState, copyBlock);
+        // Old mass = copied block with the old state's multiplier
+        queueMassChange(level, pos, newState,
+                () -> calculateMassWithCopiedBlock(oldState, copiedBlock, copyBlock));
+    }
 
-        // Only notify if multiplier actually changed
-        if (Math.abs(oldMultiplier - newMultiplier) < 0.001f) return;
+    /**
+     * Notify VS2 when block is removed.
+     * Sent immediately, not deferred: VS2 subtracts the empty 10kg in its own removal right
+     * after this, so the correction must land before the position turns into air.
+     */
+    public static void onBlockRemoved(Level level, BlockPos pos,
+                                      BlockState state,
+                                      BlockState copiedBlock) {
+        if (level.isClientSide) return;
+        if (!(state.getBlock() instanceof ICopyBlock copyBlock)) return;
+        if (!copyBlock.useDynamicMass()) return; // Don't notify VS2 if excluded from mass calculation
+
+        // A change pending this tick means VS2 still believes its old mass
+        PendingMass pendingChange;
+        synchronized (PENDING) {
+            Long2ObjectOpenHashMap<PendingMass> pending = PENDING.get(level);
+            pendingChange = pending != null ? pending.remove(pos.asLong()) : null;
+        }
 
-        Pair<Double, VsiBlockType> copiedInfo = BlockStateInfo.INSTANCE.get(copiedBlock);
-        double baseMass = (copiedInfo != null && copiedInfo.getFirst() != null)
-                ? copiedInfo.getFirst()
-                : 50.0;
+        // Old mass = the mass that's being removed
+        double oldMass = pendingChange != null
+                ? pendingChange.oldMass()
+                : calculateMassWithCopiedBlock(state, copiedBlock, copyBlock);
+        if (Math.abs(oldMass - EMPTY_COPY_BLOCK_MASS) < 0.001) return;
 
-        double oldMass = baseMass * oldMultiplier;
-        double newMass = baseMass * newMultiplier;
+        VsiBlockType blockType = VS2MassCache.getBlockType(state);
+        if (blockType == null) return;
 
         var shipWorld = VSGameUtilsKt.getShipObjectWorld(level);
         if (shipWorld == null) return;
 
-        Pair<Double, VsiBlockType> blockInfo = BlockStateInfo.INSTANCE.get(newState);
-        if (blockInfo == null) return;
-
         shipWorld.onSetBlock(
                 pos.getX(), pos.getY(), pos.getZ(),
                 VSGameUtilsKt.getDimensionId(level),
-                blockInfo.getSecond(),
-                blockInfo.getSecond(),
+                blockType,
+                blockType,
                 oldMass,
-                newMass
+                EMPTY_COPY_BLOCK_MASS
         );
     }
 
+    // ==================== PENDING MASS BUFFER ====================
+
     /**
-     * Notify VS2 when block is removed.
-     * Calculate final mass, then tell VS2 it's now 0.
+     * Mass VS2 believed in before the first change to a position this tick.
      */
-    public static void onBlockRemoved(Level level, BlockPos pos,
-                                      BlockState state,
-                                      BlockState copiedBlock) {
-        if (level.isClientSide) return;
-        if (!(state.getBlock() instanceof ICopyBlock copyBlock)) return;
-        if (!copyBlock.useDynamicMass()) return; // Don't notify VS2 if excluded from mass calculation
+    private record PendingMass(double oldMass, VsiBlockType blockType) {}
+
+    // Level -> packed BlockPos -> pending change
+    private static final Map<Level, Long2ObjectOpenHashMap<PendingMass>> PENDING = new WeakHashMap<>();
+
+    /**
+     * Record a mass change. Later changes to the same position in the same tick are merged:
+     * the first recorded old mass is kept and the new mass is computed at flush time.
+     */
+    private static void queueMassChange(Level level, BlockPos pos, BlockState copyBlockState,
+                                        DoubleSupplier oldMass) {
+        long key = pos.asLong();
+
+        synchronized (PENDING) {
+            Long2ObjectOpenHashMap<PendingMass> pending = PENDING.computeIfAbsent(level, l -> new Long2ObjectOpenHashMap<>());
+            if (pending.containsKey(key)) {
+                return; // Already pending - VS2 still believes the first old mass
+            }
+
+            VsiBlockType blockType = VS2MassCache.getBlockType(copyBlockState);
+            if (blockType == null) return;
+
+            pending.put(key, new PendingMass(oldMass.getAsDouble(), blockType));
+        }
+    }
+
+    /**
+     * Flush the level's pending mass changes with one onSetBlock per changed position.
+     */
+    private static void onLevelTick(TickEvent.LevelTickEvent event) {
+        if (event.phase != TickEvent.Phase.END || event.level.isClientSide) return;
+
+        Level level = event.level;
+        Long2ObjectOpenHashMap<PendingMass> pending;
+        synchronized (PENDING) {
+            pending = PENDING.remove(level);
+        }
+        if (pending == null || pending.isEmpty()) return;
+
+        if (ImitariMetrics.isEnabled()) {
+            ImitariMetrics.record(ImitariMetrics.Histogram.VS2_FLUSH_BATCH, level, pending.size());
+        }
 
         var shipWorld = VSGameUtilsKt.getShipObjectWorld(level);
         if (shipWorld == null) return;
 
-        // Calculate the mass that's being removed
-        double oldMass = calculateMassWithCopiedBlock(state, copiedBlock, copyBlock);
-        double newMass = 10.0; // Block is gone
+        String dimensionId = VSGameUtilsKt.getDimensionId(level);
+        BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
 
-        Pair<Double, VsiBlockType> blockInfo = BlockStateInfo.INSTANCE.get(state);
-        if (blockInfo == null) return;
+        for (Long2ObjectMap.Entry<PendingMass> entry : pending.long2ObjectEntrySet()) {
+            long packed = entry.getLongKey();
+            pos.set(BlockPos.getX(packed), BlockPos.getY(packed), BlockPos.getZ(packed));
 
-        shipWorld.onSetBlock(
-                pos.getX(), pos.getY(), pos.getZ(),
-                VSGameUtilsKt.getDimensionId(level),
-                blockInfo.getSecond(),
-                blockInfo.getSecond(),
-                oldMass,
-                newMass
-        );
+            if (!level.isLoaded(pos)) continue;
+
+            // Removed CopyBlocks were already notified in onBlockRemoved
+            BlockState current = level.getBlockState(pos);
+            if (!(current.getBlock() instanceof ICopyBlock)) continue;
+
+            VsiBlockType newType = VS2MassCache.getBlockType(current);
+            if (newType == null) continue;
+
+            PendingMass change = entry.getValue();
+            double newMass = getCurrentMass(level, pos, current);
+
+            // Only notify if mass actually changed over the whole tick
+            if (Math.abs(change.oldMass() - newMass) < 0.001) continue;
+
+            shipWorld.onSetBlock(
+                    pos.getX(), pos.getY(), pos.getZ(),
+                    dimensionId,
+                    change.blockType(),
+                    newType,
+                    change.oldMass(),
+                    newMass
+            );
+        }
+    }
+
+    private static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof Level level) {
+            synchronized (PENDING) {
+                PENDING.remove(level);
+            }
+        }
     }
 
     /**
@@ -313,5 +355,11 @@ public class VS2CopyBlockIntegrationImpl implements BlockStateInfoProvider {
                 new ResourceLocation(Imitari.MODID, "copyblock_mass"),
                 INSTANCE
         );
+
+        VS2MassCache.register();
+
+        // Registered by hand - this class must only load when VS2 is present
+        MinecraftForge.EVENT_BUS.addListener(VS2CopyBlockIntegrationImpl::onLevelTick);
+        MinecraftForge.EVENT_BUS.addListener(VS2CopyBlockIntegrationImpl::onLevelUnload);
     }
 }
@@ -0,0 +1,203 @@
+package com.vibey.imitari.compat.vs2;
+
+import com.vibey.imitari.api.ICopyBlock;
+import com.vibey.imitari.util.MassMultiplierTable;
+import it.unimi.dsi.fastutil.longs.Long2DoubleOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2DoubleOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import kotlin.Pair;
+import net.minecraft.server.packs.resources.ResourceManagerReloadListener;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.AddReloadListenerEvent;
+import net.minecraftforge.event.TagsUpdatedEvent;
+import org.jetbrains.annotations.Nullable;
+import org.valkyrienskies.core.internal.world.chunks.VsiBlockType;
+import org.valkyrienskies.mod.common.BlockStateInfo;
+
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Memoized VS2 mass lookups for CopyBlocks.
+ *
+ * {@code BlockStateInfo.INSTANCE.get} walks VS2's whole provider chain and allocates a
+ * Kotlin Pair per call. Results only change when VS2's mass data is reloaded, so:
+ * - Base mass is cached per copied BlockState
+ * - Effective mass is cached per (CopyBlock state, copied state) pair
+ * - VS2 block type is cached per CopyBlock state
+ *
+ * Cleared on datapack reload (VS2 mass data lives in datapacks).
+ * Reads use an optimistic lock and never block each other.
+ */
+public class VS2MassCache {
+    private static final double DEFAULT_MASS = 50.0;
+
+    private static final StampedLock LOCK = new StampedLock();
+    private static final Reference2DoubleOpenHashMap<BlockState> BASE_MASS = new Reference2DoubleOpenHashMap<>();
+    private static final Long2DoubleOpenHashMap EFFECTIVE_MASS = new Long2DoubleOpenHashMap();
+    private static final Reference2ObjectOpenHashMap<BlockState, VsiBlockType> BLOCK_TYPES = new Reference2ObjectOpenHashMap<>();
+
+    static {
+        BASE_MASS.defaultReturnValue(Double.NaN);
+        EFFECTIVE_MASS.defaultReturnValue(Double.NaN);
+    }
+
+    /**
+     * Mass VS2 assigns to a (non-CopyBlock) copied state.
+     */
+    public static double getBaseMass(BlockState copiedState) {
+        double cached = readBaseMass(copiedState);
+        if (!Double.isNaN(cached)) {
+            return cached;
+        }
+
+        Pair<Double, VsiBlockType> info = BlockStateInfo.INSTANCE.get(copiedState);
+        double mass = (info != null && info.getFirst() != null) ? info.getFirst() : DEFAULT_MASS;
+
+        long stamp = LOCK.writeLock();
+        try {
+            BASE_MASS.put(copiedState, mass);
+        } finally {
+            LOCK.unlockWrite(stamp);
+        }
+        return mass;
+    }
+
+    /**
+     * Mass of a CopyBlock state holding a copied state: base mass * effective multiplier.
+     */
+    public static double getEffectiveMass(BlockState copyBlockState, BlockState copiedState, ICopyBlock copyBlock) {
+        long key = ((long) Block.getId(copyBlockState) << 32) | (Block.getId(copiedState) & 0xFFFFFFFFL);
+
+        double cached = readEffectiveMass(key);
+        if (!Double.isNaN(cached)) {
+            return cached;
+        }
+
+        double mass = getBaseMass(copiedState) * MassMultiplierTable.get(copyBlockState, copyBlock);
+
+        long stamp = LOCK.writeLock();
+        try {
+            EFFECTIVE_MASS.put(key, mass);
+        } finally {
+            LOCK.unlockWrite(stamp);
+        }
+        return mass;
+    }
+
+    /**
+     * VS2 block type (solid, air, fluid...) of a CopyBlock state.
+     */
+    @Nullable
+    public static VsiBlockType getBlockType(BlockState copyBlockState) {
+        VsiBlockType cached = readBlockType(copyBlockState);
+        if (cached != null) {
+            return cached;
+        }
+
+        Pair<Double, VsiBlockType> info = BlockStateInfo.INSTANCE.get(copyBlockState);
+        if (info == null || info.getSecond() == null) {
+            return null;
+        }
+
+        long stamp = LOCK.writeLock();
+        try {
+            BLOCK_TYPES.put(copyBlockState, info.getSecond());
+        } finally {
+            LOCK.unlockWrite(stamp);
+        }
+        return info.getSecond();
+    }
+
+    public static void clear() {
+        long stamp = LOCK.writeLock();
+        try {
+            BASE_MASS.clear();
+            EFFECTIVE_MASS.clear();
+            BLOCK_TYPES.clear();
+        } finally {
+            LOCK.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Hook cache invalidation into datapack reloads. Called from VS2CopyBlockIntegrationImpl.register().
+     */
+    static void register() {
+        MinecraftForge.EVENT_BUS.addListener(VS2MassCache::onAddReloadListeners);
+        MinecraftForge.EVENT_BUS.addListener(VS2MassCache::onTagsUpdated);
+    }
+
+    private static void onAddReloadListeners(AddReloadListenerEvent event) {
+        event.addListener((ResourceManagerReloadListener) resourceManager -> clear());
+    }
+
+    private static void onTagsUpdated(TagsUpdatedEvent event) {
+        // Fires after every datapack reload has been applied, whatever order listeners ran in
+        clear();
+    }
+
+    // ==================== OPTIMISTIC READS ====================
+
+    private static double readBaseMass(BlockState state) {
+        long stamp = LOCK.tryOptimisticRead();
+        double value = Double.NaN;
+        try {
+            value = BASE_MASS.getDouble(state);
+        } catch (RuntimeException e) {
+            // Torn read during a concurrent write - retried under the read lock
+        }
+        if (LOCK.validate(stamp)) {
+            return value;
+        }
+
+        stamp = LOCK.readLock();
+        try {
+            return BASE_MASS.getDouble(state);
+        } finally {
+            LOCK.unlockRead(stamp);
+        }
+    }
+
+    private static double readEffectiveMass(long key) {
+        long stamp = LOCK.tryOptimisticRead();
+        double value = Double.NaN;
+        try {
+            value = EFFECTIVE_MASS.get(key);
+        } catch (RuntimeException e) {
+            // Torn read during a concurrent write - retried under the read lock
+        }
+        if (LOCK.validate(stamp)) {
+            return value;
+        }
+
+        stamp = LOCK.readLock();
+        try {
+            return EFFECTIVE_MASS.get(key);
+        } finally {
+            LOCK.unlockRead(stamp);
+        }
+    }
+
+    @Nullable
+    private static VsiBlockType readBlockType(BlockState state) {
+        long stamp = LOCK.tryOptimisticRead();
+        VsiBlockType value = null;
+        try {
+            value = BLOCK_TYPES.get(state);
+        } catch (RuntimeException e) {
+            // Torn read during a concurrent write - retried under the read lock
+        }
+        if (LOCK.validate(stamp)) {
+            return value;
+        }
+
+        stamp = LOCK.readLock();
+        try {
+            return BLOCK_TYPES.get(state);
+        } finally {
+            LOCK.unlockRead(stamp);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.vibey.imitari.compat.vs2;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.state.BlockState;
+
+/**
+ * Mass notifications the VS2 integration handles.
+ * Has NO VS2 dependencies - the VS2-backed implementation lives in VS2CopyBlockIntegrationImpl.
+ */
+public interface VS2MassService {
+
+    /**
+     * Used when VS2 is absent or failed to register.
+     */
+    VS2MassService NO_OP = new VS2MassService() {
+        @Override
+        public void updateCopyBlockMass(Level level, BlockPos pos, BlockState copyBlockState, BlockState oldCopiedBlock) {
+        }
+
+        @Override
+        public void onBlockEntityDataLoaded(Level level, BlockPos pos, BlockState state, BlockState copiedBlock) {
+        }
+
+        @Override
+        public void onBlockStateChanged(Level level, BlockPos pos, BlockState oldState, BlockState newState) {
+        }
+
+        @Override
+        public void onBlockRemoved(Level level, BlockPos pos, BlockState state, BlockState copiedBlock) {
+        }
+    };
+
+    void updateCopyBlockMass(Level level, BlockPos pos, BlockState copyBlockState, BlockState oldCopiedBlock);
+
+    void onBlockEntityDataLoaded(Level level, BlockPos pos, BlockState state, BlockState copiedBlock);
+
+    void onBlockStateChanged(Level level, BlockPos pos, BlockState oldState, BlockState newState);
+
+    void onBlockRemoved(Level level, BlockPos pos, BlockState state, BlockState copiedBlock);
+}
@@ -1,15 +1,28 @@
 package com.vibey.imitari.config;
 
+import com.vibey.imitari.util.CopiedTagTable;
+import com.vibey.imitari.util.ImitariMetrics;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.tags.TagKey;
+import net.minecraft.world.level.block.Block;
 import net.minecraftforge.common.ForgeConfigSpec;
 import net.minecraftforge.fml.ModLoadingContext;
 import net.minecraftforge.fml.config.ModConfig;
+import net.minecraftforge.fml.event.config.ModConfigEvent;
+import net.minecraftforge.fml.javafmlmod.FMLJavaModLoadingContext;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 public class ImitariConfig {
     private static final ForgeConfigSpec.Builder BUILDER = new ForgeConfigSpec.Builder();
     public static final ForgeConfigSpec SPEC;
 
+    private static final ForgeConfigSpec.Builder CLIENT_BUILDER = new ForgeConfigSpec.Builder();
+    public static final ForgeConfigSpec CLIENT_SPEC;
+
     // Gameplay Settings
     public static final ForgeConfigSpec.BooleanValue CONSUMES_ITEMS_IN_SURVIVAL;
     public static final ForgeConfigSpec.BooleanValue ALLOW_SURVIVAL_REMOVAL;
@@ -20,6 +33,14 @@ public class ImitariConfig {
     public static final ForgeConfigSpec.BooleanValue COPY_HARDNESS;
     public static final ForgeConfigSpec.BooleanValue COPY_RESISTANCE;
 
+    // Metrics Settings
+    public static final ForgeConfigSpec.BooleanValue ENABLE_METRICS;
+    public static final ForgeConfigSpec.IntValue METRICS_CSV_INTERVAL;
+
+    // Client Rendering Settings
+    public static final ForgeConfigSpec.IntValue SECTION_REBUILDS_PER_TICK;
+    public static final ForgeConfigSpec.BooleanValue SHOW_RENDER_METRICS;
+
     static {
         BUILDER.push("Gameplay Settings");
 
@@ -60,10 +81,114 @@ public class ImitariConfig {
 
         BUILDER.pop();
 
+        BUILDER.push("Metrics");
+
+        ENABLE_METRICS = BUILDER
+                .comment("Record counters and histograms for CopyBlock hot paths (see /imitari stats)",
+                        "Off by default - when disabled nothing is recorded")
+                .define("enableMetrics", false);
+
+        METRICS_CSV_INTERVAL = BUILDER
+                .comment("Append the metrics to imitari-stats.csv in the server directory every N seconds",
+                        "0 disables the CSV dump. Only used when enableMetrics is true")
+                .defineInRange("metricsCsvInterval", 0, 0, 86400);
+
+        BUILDER.pop();
+
         SPEC = BUILDER.build();
+
+        CLIENT_BUILDER.push("Rendering");
+
+        SECTION_REBUILDS_PER_TICK = CLIENT_BUILDER
+                .comment("Maximum number of chunk sections CopyBlock updates may mark for re-render per client tick",
+                        "Remaining sections are spread over the following ticks")
+                .defineInRange("sectionRebuildsPerTick", 64, 1, 4096);
+
+        SHOW_RENDER_METRICS = CLIENT_BUILDER
+                .comment("Measure CopyBlock meshing and show it in the F3 screen (also /imitaric stats)",
+                        "Off by default - when disabled nothing is measured")
+                .define("showRenderMetrics", false);
+
+        CLIENT_BUILDER.pop();
+
+        CLIENT_SPEC = CLIENT_BUILDER.build();
+    }
+
+    /**
+     * Immutable copy of the config values, rebuilt whenever the TOML is (re)loaded.
+     * Hot paths read this with a single volatile read instead of going through ForgeConfigSpec.
+     */
+    public record Snapshot(
+            boolean consumesItemsInSurvival,
+            boolean allowSurvivalRemoval,
+            boolean enableDynamicTags,
+            Set<TagKey<Block>> tagBlacklist,
+            boolean copyHardness,
+            boolean copyResistance,
+            boolean enableMetrics,
+            int metricsCsvInterval
+    ) {
+        // Spec defaults, used until the config file has been loaded
+        static final Snapshot DEFAULTS = new Snapshot(true, false, true,
+                parseTagBlacklist(List.of("forge:relocation_not_supported", "forge:ores")), true, true,
+                false, 0);
+
+        static Snapshot read() {
+            return new Snapshot(
+                    CONSUMES_ITEMS_IN_SURVIVAL.get(),
+                    ALLOW_SURVIVAL_REMOVAL.get(),
+                    ENABLE_DYNAMIC_TAGS.get(),
+                    parseTagBlacklist(TAG_BLACKLIST.get()),
+                    COPY_HARDNESS.get(),
+                    COPY_RESISTANCE.get(),
+                    ENABLE_METRICS.get(),
+                    METRICS_CSV_INTERVAL.get()
+            );
+        }
+    }
+
+    private static volatile Snapshot snapshot = Snapshot.DEFAULTS;
+
+    /**
+     * Get the current config snapshot.
+     */
+    public static Snapshot get() {
+        return snapshot;
     }
 
     public static void register() {
         ModLoadingContext.get().registerConfig(ModConfig.Type.COMMON, SPEC, "imitari.toml");
+        ModLoadingContext.get().registerConfig(ModConfig.Type.CLIENT, CLIENT_SPEC, "imitari-client.toml");
+        FMLJavaModLoadingContext.get().getModEventBus().addListener(ImitariConfig::onConfigLoad);
+        FMLJavaModLoadingContext.get().getModEventBus().addListener(ImitariConfig::onConfigReload);
+    }
+
+    private static void onConfigLoad(ModConfigEvent.Loading event) {
+        if (event.getConfig().getSpec() == SPEC) {
+            refresh();
+        }
+    }
+
+    private static void onConfigReload(ModConfigEvent.Reloading event) {
+        if (event.getConfig().getSpec() == SPEC) {
+            refresh();
+        }
+    }
+
+    private static void refresh() {
+        snapshot = Snapshot.read();
+        CopiedTagTable.invalidate();
+        ImitariMetrics.configure(snapshot.enableMetrics(), snapshot.metricsCsvInterval());
+    }
+
+    private static Set<TagKey<Block>> parseTagBlacklist(List<? extends String> entries) {
+        Set<TagKey<Block>> blacklist = new HashSet<>();
+        for (String entry : entries) {
+            ResourceLocation location = ResourceLocation.tryParse(entry);
+            if (location != null) {
+                blacklist.add(TagKey.create(Registries.BLOCK, location));
+            }
+        }
+        return Set.copyOf(blacklist);
     }
 }
\ No newline at end of file
@@ -0,0 +1,126 @@
+package com.vibey.imitari.gametest;
+
+import com.mojang.logging.LogUtils;
+import com.vibey.imitari.Imitari;
+import com.vibey.imitari.blockentity.CopyBlockEntity;
+import com.vibey.imitari.registry.ModBlocks;
+import com.vibey.imitari.util.ImitariMetrics;
+import net.minecraft.core.BlockPos;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraftforge.gametest.GameTestHolder;
+import net.minecraftforge.gametest.PrefixGameTestTemplate;
+import org.slf4j.Logger;
+
+/**
+ * Explosion timing against a CopyBlock wall, run with the gameTestServer config.
+ *
+ * An array of TNT-strength explosions is detonated in front of a wall of CopyBlocks
+ * copying obsidian, and the same array against a plain obsidian wall for reference.
+ * The wall survives, so every round hits the same blocks.
+ *
+ * - Timings are logged as "[Imitari] Explosion benchmark ..." lines
+ * - The explosion cache counters are logged too when metrics are enabled
+ */
+@GameTestHolder(Imitari.MODID)
+@PrefixGameTestTemplate(false)
+public class CopyBlockExplosionTests {
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    private static final String ARENA = "explosion_arena";
+
+    private static final int WALL_Z = 10;
+    private static final int TNT_Z = 7;
+    private static final int MIN_X = 2;
+    private static final int MAX_X = 13;
+    private static final int WALL_HEIGHT = 6;
+    private static final int ROUNDS = 8;
+    private static final float TNT_POWER = 4.0f;
+
+    @GameTest(template = ARENA)
+    public static void tntAgainstCopyBlockWall(GameTestHelper helper) {
+        BlockState obsidian = Blocks.OBSIDIAN.defaultBlockState();
+        buildWall(helper, ModBlocks.COPY_BLOCK.get().defaultBlockState());
+
+        for (int x = MIN_X; x <= MAX_X; x++) {
+            for (int y = 1; y <= WALL_HEIGHT; y++) {
+                CopyBlockEntity be = helper.getBlockEntity(new BlockPos(x, y, WALL_Z));
+                be.setCopiedBlock(obsidian);
+            }
+        }
+
+        long prefilled = ImitariMetrics.total(ImitariMetrics.Counter.EXPLOSION_PREFILLED_BLOCKS);
+        long hits = ImitariMetrics.total(ImitariMetrics.Counter.EXPLOSION_CACHE_HITS);
+
+        report("copy block wall", detonate(helper));
+
+        if (ImitariMetrics.isEnabled()) {
+            LOGGER.info("[Imitari] Explosion benchmark counters: {} prefilled blocks, {} cache hits",
+                    ImitariMetrics.total(ImitariMetrics.Counter.EXPLOSION_PREFILLED_BLOCKS) - prefilled,
+                    ImitariMetrics.total(ImitariMetrics.Counter.EXPLOSION_CACHE_HITS) - hits);
+        }
+
+        helper.assertBlockPresent(ModBlocks.COPY_BLOCK.get(), new BlockPos((MIN_X + MAX_X) / 2, 1, WALL_Z));
+        helper.succeed();
+    }
+
+    @GameTest(template = ARENA)
+    public static void tntAgainstObsidianWall(GameTestHelper helper) {
+        buildWall(helper, Blocks.OBSIDIAN.defaultBlockState());
+
+        report("obsidian wall", detonate(helper));
+
+        helper.assertBlockPresent(Blocks.OBSIDIAN, new BlockPos((MIN_X + MAX_X) / 2, 1, WALL_Z));
+        helper.succeed();
+    }
+
+    // ==================== INTERNAL METHODS ====================
+
+    private static void buildWall(GameTestHelper helper, BlockState state) {
+        for (int x = MIN_X; x <= MAX_X; x++) {
+            for (int y = 1; y <= WALL_HEIGHT; y++) {
+                helper.setBlock(new BlockPos(x, y, WALL_Z), state);
+            }
+        }
+    }
+
+    /**
+     * Detonate the TNT array ROUNDS times.
+     *
+     * @return Total nanoseconds spent in explode
+     */
+    private static long detonate(GameTestHelper helper) {
+        Level level = helper.getLevel();
+        long total = 0;
+
+        for (int round = 0; round < ROUNDS; round++) {
+            for (int x = MIN_X; x <= MAX_X; x += 2) {
+                for (int y = 1; y <= WALL_HEIGHT; y += 2) {
+                    BlockPos pos = helper.absolutePos(new BlockPos(x, y, TNT_Z));
+
+                    long start = System.nanoTime();
+                    level.explode(null, pos.getX() + 0.5, pos.getY() + 0.5, pos.getZ() + 0.5,
+                            TNT_POWER, Level.ExplosionInteraction.TNT);
+                    total += System.nanoTime() - start;
+                }
+            }
+
+            // Refill the craters so every round starts from the same terrain
+            for (int x = MIN_X; x <= MAX_X; x++) {
+                for (int z = 0; z < WALL_Z; z++) {
+                    helper.setBlock(new BlockPos(x, 0, z), Blocks.STONE);
+                }
+            }
+        }
+        return total;
+    }
+
+    private static void report(String wall, long totalNanos) {
+        int explosions = ROUNDS * ((MAX_X - MIN_X) / 2 + 1) * ((WALL_HEIGHT - 1) / 2 + 1);
+        LOGGER.info("[Imitari] Explosion benchmark ({}): {} explosions, {} us total, {} us/explosion",
+                wall, explosions, totalNanos / 1000, totalNanos / 1000 / explosions);
+    }
+}
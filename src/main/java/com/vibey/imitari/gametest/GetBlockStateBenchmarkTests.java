@@ -0,0 +1,121 @@
+package com.vibey.imitari.gametest;
+
+import com.mojang.logging.LogUtils;
+import com.vibey.imitari.Imitari;
+import com.vibey.imitari.blockentity.CopyBlockEntity;
+import com.vibey.imitari.registry.ModBlocks;
+import com.vibey.imitari.util.CopiedStateIndex;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraftforge.gametest.GameTestHolder;
+import net.minecraftforge.gametest.PrefixGameTestTemplate;
+import org.slf4j.Logger;
+
+/**
+ * Level.getBlockState throughput with Imitari's hooks on and off, run with the gameTestServer config.
+ *
+ * Mixins cannot be unapplied at runtime, so "off" is the vanilla body of Level.getBlockState
+ * (build height check, chunk lookup, chunk read) called directly. "On" is Level.getBlockState
+ * itself, once while no CopyBlock is loaded (the static guard) and once with CopyBlocks loaded.
+ *
+ * - Timings are logged as "[Imitari] getBlockState benchmark ..." lines
+ * - Runs in its own batch; the guard-only timing is skipped if another batch left CopyBlocks loaded
+ */
+@GameTestHolder(Imitari.MODID)
+@PrefixGameTestTemplate(false)
+public class GetBlockStateBenchmarkTests {
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    // 16x10x16 with a stone floor
+    private static final String ARENA = "explosion_arena";
+
+    private static final int SIZE_X = 16;
+    private static final int SIZE_Y = 10;
+    private static final int SIZE_Z = 16;
+    private static final int WARMUP_ROUNDS = 500;
+    private static final int ROUNDS = 500;
+
+    private static volatile long blackhole;
+
+    @GameTest(template = ARENA, batch = "getblockstate")
+    public static void getBlockStateHooksOnAndOff(GameTestHelper helper) {
+        ServerLevel level = helper.getLevel();
+        BlockPos origin = helper.absolutePos(BlockPos.ZERO);
+
+        long vanilla = measure(level, origin, false);
+        report("off (vanilla body)", vanilla);
+
+        if (!CopiedStateIndex.anyIndexed()) {
+            report("on, no CopyBlocks loaded", measure(level, origin, true));
+        } else {
+            LOGGER.info("[Imitari] getBlockState benchmark: CopyBlocks already loaded, guard-only timing skipped");
+        }
+
+        // Mix CopyBlocks into the scanned volume so the guard is open and some lookups record context
+        for (int x = 0; x < SIZE_X; x += 2) {
+            BlockPos pos = new BlockPos(x, 1, 8);
+            helper.setBlock(pos, ModBlocks.COPY_BLOCK.get());
+            CopyBlockEntity be = helper.getBlockEntity(pos);
+            be.setCopiedBlock(Blocks.OAK_LOG.defaultBlockState());
+        }
+
+        report("on, CopyBlocks loaded", measure(level, origin, true));
+        helper.succeed();
+    }
+
+    // ==================== INTERNAL METHODS ====================
+
+    /**
+     * Read the whole arena WARMUP_ROUNDS + ROUNDS times.
+     *
+     * @return Nanoseconds spent in the timed rounds
+     */
+    private static long measure(ServerLevel level, BlockPos origin, boolean hooked) {
+        BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        long sink = 0;
+        long start = 0;
+
+        for (int round = 0; round < WARMUP_ROUNDS + ROUNDS; round++) {
+            if (round == WARMUP_ROUNDS) {
+                start = System.nanoTime();
+            }
+
+            for (int x = 0; x < SIZE_X; x++) {
+                for (int y = 0; y < SIZE_Y; y++) {
+                    for (int z = 0; z < SIZE_Z; z++) {
+                        pos.set(origin.getX() + x, origin.getY() + y, origin.getZ() + z);
+                        BlockState state = hooked ? level.getBlockState(pos) : vanillaGetBlockState(level, pos);
+                        sink += state.isAir() ? 0 : 1;
+                    }
+                }
+            }
+        }
+
+        long elapsed = System.nanoTime() - start;
+        // Keeps the reads from being optimized away
+        blackhole = sink;
+        return elapsed;
+    }
+
+    /**
+     * Level.getBlockState without the injected callback.
+     */
+    private static BlockState vanillaGetBlockState(ServerLevel level, BlockPos pos) {
+        if (level.isOutsideBuildHeight(pos)) {
+            return Blocks.VOID_AIR.defaultBlockState();
+        }
+        return level.getChunk(SectionPos.blockToSectionCoord(pos.getX()), SectionPos.blockToSectionCoord(pos.getZ()))
+                .getBlockState(pos);
+    }
+
+    private static void report(String mode, long nanos) {
+        long calls = (long) ROUNDS * SIZE_X * SIZE_Y * SIZE_Z;
+        LOGGER.info("[Imitari] getBlockState benchmark ({}): {} calls, {} ns/call",
+                mode, calls, String.format("%.2f", (double) nanos / calls));
+    }
+}
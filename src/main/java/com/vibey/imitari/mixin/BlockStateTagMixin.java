@@ -1,12 +1,13 @@
 package com.vibey.imitari.mixin;
 
 import com.vibey.imitari.api.ICopyBlock;
-import com.vibey.imitari.config.ImitariConfig;
+import com.vibey.imitari.util.CopiedStateIndex;
 import com.vibey.imitari.util.CopyBlockContext;
-import net.minecraft.resources.ResourceLocation;
+import com.vibey.imitari.util.ImitariMetrics;
 import net.minecraft.tags.TagKey;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.state.BlockBehaviour;
+import net.minecraft.world.level.block.state.BlockState;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.Unique;
@@ -14,85 +15,61 @@ import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 
-import java.util.List;
-
 /**
  * Optimized dynamic tag checking for CopyBlocks.
  *
  * Performance optimizations:
- * - Early exit for non-CopyBlocks (99% of blocks)
- * - Cached blacklist check results
+ * - Skipped entirely while no CopyBlock is loaded ({@link CopiedStateIndex#anyIndexed()})
+ * - Whether the state belongs to a CopyBlock is resolved once per state (no interface check per call)
+ * - Copied tags resolved through CopiedTagTable (one bit test, blacklist pre-masked)
  * - No premature context cleanup (allows multiple tag checks)
  */
 @Mixin(BlockBehaviour.BlockStateBase.class)
 public abstract class BlockStateTagMixin {
 
+    // 0 = not resolved yet, 1 = ICopyBlock, 2 = other block.
+    // The block never changes, so racing writes agree.
+    @Unique
+    private byte imitari$copyBlockKind = 0;
+
     @Shadow
     public abstract Block getBlock();
 
-    // Cache for blacklist lookups (tag checks happen in hot loops)
-    @Unique
-    private static volatile List<? extends String> imitari$cachedBlacklist = null;
-
     /**
      * Inject at HEAD of is(TagKey) to check CopyBlock's copied block tags.
      */
     @Inject(method = "is(Lnet/minecraft/tags/TagKey;)Z", at = @At("HEAD"), cancellable = true)
     private void imitari$checkCopiedTags(TagKey<Block> tag, CallbackInfoReturnable<Boolean> cir) {
-        Block block = this.getBlock();
+        if (!CopiedStateIndex.anyIndexed()) {
+            return;
+        }
+
+        byte kind = imitari$copyBlockKind;
+        if (kind == 0) {
+            kind = this.getBlock() instanceof ICopyBlock ? (byte) 1 : (byte) 2;
+            imitari$copyBlockKind = kind;
+        }
 
         // Fast path: Early exit for non-CopyBlocks (99% of cases)
-        if (!(block instanceof ICopyBlock copyBlock)) {
+        if (kind != 1) {
             return;
         }
 
         // Check if dynamic tags are enabled for this block
-        if (!copyBlock.useDynamicTags()) {
+        if (!((ICopyBlock) this.getBlock()).useDynamicTags()) {
             return;
         }
 
-        // Check if this tag is blacklisted
-        if (imitari$isTagBlacklisted(tag)) {
-            return; // Don't inherit blacklisted tags
+        if (ImitariMetrics.isEnabled()) {
+            ImitariMetrics.increment(ImitariMetrics.Counter.TAG_INTERCEPTS, CopyBlockContext.getCurrentLevel());
         }
 
-        // Try to get the copied block's tags using our optimized context system
-        Boolean result = CopyBlockContext.checkCopiedBlockTag(tag);
+        // Resolve through the position recorded by the last getBlockState of this CopyBlock state
+        Boolean result = CopyBlockContext.checkCopiedBlockTag((BlockState)(Object)this, tag);
 
-        // If we got a result, use it. Otherwise, let vanilla behavior continue.
+        // If we got a result, use it. Otherwise (no context, empty, blacklisted) let vanilla behavior continue.
         if (result != null) {
             cir.setReturnValue(result);
         }
     }
-
-    @Unique
-    private boolean imitari$isTagBlacklisted(TagKey<Block> tag) {
-        try {
-            // Use cached blacklist to avoid repeated config lookups
-            List<? extends String> blacklist = imitari$cachedBlacklist;
-            if (blacklist == null) {
-                blacklist = ImitariConfig.TAG_BLACKLIST.get();
-                imitari$cachedBlacklist = blacklist;
-            }
-
-            if (blacklist.isEmpty()) {
-                return false;
-            }
-
-            ResourceLocation tagLocation = tag.location();
-            String tagString = tagLocation.toString();
-
-            // Linear search is fine - blacklists are typically very small (< 10 entries)
-            for (String blacklistedTag : blacklist) {
-                if (tagString.equals(blacklistedTag)) {
-                    return true;
-                }
-            }
-        } catch (Exception e) {
-            // Config not loaded yet or error - allow all tags
-            imitari$cachedBlacklist = null;
-        }
-
-        return false;
-    }
-}
\ No newline at end of file
+}
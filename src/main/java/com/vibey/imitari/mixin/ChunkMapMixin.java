@@ -0,0 +1,31 @@
+package com.vibey.imitari.mixin;
+
+import com.vibey.imitari.util.CopiedStatePrefetch;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.server.level.ChunkMap;
+import net.minecraft.world.level.ChunkPos;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Decodes CopyBlock copied states while the chunk tag is still off the main thread
+ * (see {@link CopiedStatePrefetch}).
+ */
+@Mixin(ChunkMap.class)
+public abstract class ChunkMapMixin {
+
+    @Inject(method = "readChunk", at = @At("RETURN"), cancellable = true)
+    private void imitari$prefetchCopiedStates(ChunkPos pos,
+                                              CallbackInfoReturnable<CompletableFuture<Optional<CompoundTag>>> cir) {
+        // Runs on the worker that completes the read/upgrade stage
+        cir.setReturnValue(cir.getReturnValue().thenApply(tag -> {
+            tag.ifPresent(chunkTag -> CopiedStatePrefetch.decodeChunk(pos, chunkTag));
+            return tag;
+        }));
+    }
+}
@@ -0,0 +1,27 @@
+package com.vibey.imitari.mixin;
+
+import com.vibey.imitari.client.CopyBlockCullMask;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.block.state.BlockState;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Client-side counterpart of neighborChanged/updateShape for CopyBlock face culling:
+ * every block change the client renders invalidates the cull masks of the adjacent CopyBlocks.
+ */
+@Mixin(ClientLevel.class)
+public abstract class ClientLevelBlockChangedMixin {
+
+    @Inject(method = "sendBlockUpdated", at = @At("HEAD"))
+    private void imitari$invalidateCullMasks(BlockPos pos, BlockState oldState, BlockState newState,
+                                             int flags, CallbackInfo ci) {
+        // Model refreshes re-send the same state - neighbours are unaffected
+        if (oldState != newState) {
+            CopyBlockCullMask.invalidateNeighbours((ClientLevel)(Object)this, pos);
+        }
+    }
+}
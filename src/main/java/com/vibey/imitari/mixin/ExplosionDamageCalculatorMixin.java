@@ -0,0 +1,47 @@
+package com.vibey.imitari.mixin;
+
+import com.vibey.imitari.api.ICopyBlock;
+import com.vibey.imitari.util.ExplosionResistanceCache;
+import com.vibey.imitari.util.ImitariMetrics;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.Explosion;
+import net.minecraft.world.level.ExplosionDamageCalculator;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.material.FluidState;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+import java.util.Optional;
+
+/**
+ * Answers CopyBlock resistance queries from the explosion's prefilled table
+ * (see {@link ExplosionResistanceCache}) instead of resolving the block entity per ray step.
+ *
+ * Entity-based calculators call this through super, so their own adjustments still apply.
+ */
+@Mixin(ExplosionDamageCalculator.class)
+public abstract class ExplosionDamageCalculatorMixin {
+
+    @Inject(method = "getBlockExplosionResistance", at = @At("HEAD"), cancellable = true)
+    private void imitari$getPrefilledResistance(Explosion explosion, BlockGetter level, BlockPos pos,
+                                                BlockState state, FluidState fluid,
+                                                CallbackInfoReturnable<Optional<Float>> cir) {
+        // Fast path: Early exit for non-CopyBlocks
+        if (!(state.getBlock() instanceof ICopyBlock)) {
+            return;
+        }
+
+        float resistance = ExplosionResistanceCache.get(explosion, pos);
+        if (Float.isNaN(resistance)) {
+            return;
+        }
+
+        if (ImitariMetrics.isEnabled()) {
+            ImitariMetrics.increment(ImitariMetrics.Counter.EXPLOSION_CACHE_HITS, level);
+        }
+        cir.setReturnValue(Optional.of(resistance));
+    }
+}
@@ -0,0 +1,53 @@
+package com.vibey.imitari.mixin;
+
+import com.vibey.imitari.util.ExplosionResistanceCache;
+import it.unimi.dsi.fastutil.longs.Long2FloatOpenHashMap;
+import net.minecraft.world.level.Explosion;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.Nullable;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Prefills CopyBlock resistances before the explosion rays are cast
+ * and drops them once the affected blocks are known.
+ */
+@Mixin(Explosion.class)
+public abstract class ExplosionMixin implements ExplosionResistanceCache.Holder {
+
+    @Shadow @Final private Level level;
+    @Shadow @Final private double x;
+    @Shadow @Final private double y;
+    @Shadow @Final private double z;
+    @Shadow @Final private float radius;
+
+    @Unique
+    @Nullable
+    private Long2FloatOpenHashMap imitari$copyResistances = null;
+
+    @Override
+    @Nullable
+    public Long2FloatOpenHashMap imitari$getCopyResistances() {
+        return imitari$copyResistances;
+    }
+
+    @Override
+    public void imitari$setCopyResistances(@Nullable Long2FloatOpenHashMap resistances) {
+        this.imitari$copyResistances = resistances;
+    }
+
+    @Inject(method = "explode", at = @At("HEAD"))
+    private void imitari$prefillResistances(CallbackInfo ci) {
+        imitari$copyResistances = ExplosionResistanceCache.collect(level, (Explosion)(Object)this, x, y, z, radius);
+    }
+
+    @Inject(method = "explode", at = @At("RETURN"))
+    private void imitari$dropResistances(CallbackInfo ci) {
+        imitari$copyResistances = null;
+    }
+}
@@ -0,0 +1,21 @@
+package com.vibey.imitari.mixin;
+
+import com.vibey.imitari.util.MiningProgressCache;
+import net.minecraft.world.entity.player.Player;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+
+/**
+ * Gives every Player a {@link MiningProgressCache}.
+ */
+@Mixin(Player.class)
+public abstract class PlayerMiningCacheMixin implements MiningProgressCache.Holder {
+
+    @Unique
+    private final MiningProgressCache imitari$miningCache = new MiningProgressCache();
+
+    @Override
+    public MiningProgressCache imitari$getMiningCache() {
+        return imitari$miningCache;
+    }
+}
@@ -0,0 +1,122 @@
+package com.vibey.imitari.network;
+
+import com.vibey.imitari.Imitari;
+import com.vibey.imitari.blockentity.CopyBlockEntity;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.level.ChunkWatchEvent;
+import net.minecraftforge.event.level.LevelEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.network.PacketDistributor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Server-side copied block sync.
+ *
+ * - When a player starts watching a chunk, every section with CopyBlocks is sent as one packet
+ * - Changes are collected per section and flushed once per level tick as delta packets
+ *   to every player tracking the chunk
+ *
+ * Replaces per-entity ClientboundBlockEntityDataPacket updates for CopyBlockEntity.
+ * Only touched from the server thread.
+ */
+@Mod.EventBusSubscriber(modid = Imitari.MODID)
+public class CopiedBlockSync {
+
+    // Level -> section key -> changed packed positions
+    private static final Map<ServerLevel, Long2ObjectOpenHashMap<LongOpenHashSet>> PENDING = new WeakHashMap<>();
+
+    /**
+     * Queue a copied block change for the next delta flush.
+     */
+    public static void queueChange(ServerLevel level, BlockPos pos) {
+        long sectionKey = SectionPos.asLong(pos);
+        PENDING.computeIfAbsent(level, l -> new Long2ObjectOpenHashMap<>())
+                .computeIfAbsent(sectionKey, k -> new LongOpenHashSet())
+                .add(pos.asLong());
+    }
+
+    @SubscribeEvent
+    public static void onLevelTick(TickEvent.LevelTickEvent event) {
+        if (event.phase != TickEvent.Phase.END || !(event.level instanceof ServerLevel level)) {
+            return;
+        }
+
+        Long2ObjectOpenHashMap<LongOpenHashSet> pending = PENDING.get(level);
+        if (pending == null || pending.isEmpty()) {
+            return;
+        }
+
+        BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+
+        for (Long2ObjectMap.Entry<LongOpenHashSet> entry : pending.long2ObjectEntrySet()) {
+            long sectionKey = entry.getLongKey();
+            LevelChunk chunk = level.getChunkSource().getChunkNow(SectionPos.x(sectionKey), SectionPos.z(sectionKey));
+            if (chunk == null) {
+                continue; // Unloaded - players get a full sync when it is watched again
+            }
+
+            List<CopyBlockEntity> changed = new ArrayList<>(entry.getValue().size());
+            LongIterator it = entry.getValue().iterator();
+            while (it.hasNext()) {
+                long packed = it.nextLong();
+                pos.set(BlockPos.getX(packed), BlockPos.getY(packed), BlockPos.getZ(packed));
+                BlockEntity be = chunk.getBlockEntity(pos);
+                if (be instanceof CopyBlockEntity copyBE) {
+                    changed.add(copyBE);
+                }
+            }
+
+            if (!changed.isEmpty()) {
+                ImitariNetwork.CHANNEL.send(PacketDistributor.TRACKING_CHUNK.with(() -> chunk),
+                        CopiedSectionSyncPacket.of(sectionKey, changed));
+            }
+        }
+
+        pending.clear();
+    }
+
+    @SubscribeEvent
+    public static void onChunkWatch(ChunkWatchEvent.Watch event) {
+        LevelChunk chunk = event.getChunk();
+
+        Long2ObjectOpenHashMap<List<CopyBlockEntity>> sections = null;
+        for (BlockEntity be : chunk.getBlockEntities().values()) {
+            if (be instanceof CopyBlockEntity copyBE) {
+                if (sections == null) {
+                    sections = new Long2ObjectOpenHashMap<>();
+                }
+                sections.computeIfAbsent(SectionPos.asLong(be.getBlockPos()), k -> new ArrayList<>()).add(copyBE);
+            }
+        }
+
+        if (sections == null) {
+            return;
+        }
+
+        for (Long2ObjectMap.Entry<List<CopyBlockEntity>> entry : sections.long2ObjectEntrySet()) {
+            ImitariNetwork.CHANNEL.send(PacketDistributor.PLAYER.with(event::getPlayer),
+                    CopiedSectionSyncPacket.of(entry.getLongKey(), entry.getValue()));
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof ServerLevel level) {
+            PENDING.remove(level);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.vibey.imitari.network;
+
+import com.vibey.imitari.blockentity.CopyBlockEntity;
+import com.vibey.imitari.client.ClientCopiedBlockSync;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.world.level.block.Block;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.fml.DistExecutor;
+import net.minecraftforge.network.NetworkEvent;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Copied block contents of (part of) one chunk section.
+ *
+ * Used for the full section sync when a player starts watching a chunk and for the
+ * per-tick coalesced deltas. Wire format:
+ * - section key (SectionPos.asLong)
+ * - palette of copied state ids (varints)
+ * - entries: local position (short), palette index (varint), virtual rotation (byte)
+ *
+ * Packets above the connection's compression threshold are zlib-compressed by vanilla.
+ */
+public class CopiedSectionSyncPacket {
+    private final long sectionKey;
+    private final short[] localPositions;
+    private final int[] stateIds;
+    private final byte[] rotations;
+
+    private CopiedSectionSyncPacket(long sectionKey, short[] localPositions, int[] stateIds, byte[] rotations) {
+        this.sectionKey = sectionKey;
+        this.localPositions = localPositions;
+        this.stateIds = stateIds;
+        this.rotations = rotations;
+    }
+
+    /**
+     * Build a packet for CopyBlocks that all lie in the given section.
+     */
+    public static CopiedSectionSyncPacket of(long sectionKey, List<CopyBlockEntity> blockEntities) {
+        int size = blockEntities.size();
+        short[] localPositions = new short[size];
+        int[] stateIds = new int[size];
+        byte[] rotations = new byte[size];
+
+        for (int i = 0; i < size; i++) {
+            CopyBlockEntity be = blockEntities.get(i);
+            localPositions[i] = packLocal(be.getBlockPos());
+            stateIds[i] = Block.getId(be.getCopiedBlock());
+            rotations[i] = (byte) be.getVirtualRotation();
+        }
+
+        return new CopiedSectionSyncPacket(sectionKey, localPositions, stateIds, rotations);
+    }
+
+    public void encode(FriendlyByteBuf buf) {
+        buf.writeLong(sectionKey);
+
+        // Palette of distinct copied states in this packet
+        Int2IntOpenHashMap paletteIndex = new Int2IntOpenHashMap();
+        paletteIndex.defaultReturnValue(-1);
+        int[] palette = new int[stateIds.length];
+        int paletteSize = 0;
+        for (int stateId : stateIds) {
+            if (paletteIndex.get(stateId) < 0) {
+                paletteIndex.put(stateId, paletteSize);
+                palette[paletteSize++] = stateId;
+            }
+        }
+
+        buf.writeVarInt(paletteSize);
+        for (int i = 0; i < paletteSize; i++) {
+            buf.writeVarInt(palette[i]);
+        }
+
+        buf.writeVarInt(localPositions.length);
+        for (int i = 0; i < localPositions.length; i++) {
+            buf.writeShort(localPositions[i]);
+            buf.writeVarInt(paletteIndex.get(stateIds[i]));
+            buf.writeByte(rotations[i]);
+        }
+    }
+
+    public static CopiedSectionSyncPacket decode(FriendlyByteBuf buf) {
+        long sectionKey = buf.readLong();
+
+        int paletteSize = buf.readVarInt();
+        int[] palette = new int[paletteSize];
+        for (int i = 0; i < paletteSize; i++) {
+            palette[i] = buf.readVarInt();
+        }
+
+        int size = buf.readVarInt();
+        short[] localPositions = new short[size];
+        int[] stateIds = new int[size];
+        byte[] rotations = new byte[size];
+        for (int i = 0; i < size; i++) {
+            localPositions[i] = buf.readShort();
+            int index = buf.readVarInt();
+            stateIds[i] = index >= 0 && index < paletteSize ? palette[index] : 0;
+            rotations[i] = buf.readByte();
+        }
+
+        return new CopiedSectionSyncPacket(sectionKey, localPositions, stateIds, rotations);
+    }
+
+    public void handle(Supplier<NetworkEvent.Context> ctx) {
+        ctx.get().enqueueWork(() ->
+                DistExecutor.unsafeRunWhenOn(Dist.CLIENT, () -> () -> ClientCopiedBlockSync.apply(this))
+        );
+        ctx.get().setPacketHandled(true);
+    }
+
+    // ==================== ACCESSORS ====================
+
+    public long getSectionKey() {
+        return sectionKey;
+    }
+
+    public int size() {
+        return localPositions.length;
+    }
+
+    public short getLocalPosition(int i) {
+        return localPositions[i];
+    }
+
+    public int getStateId(int i) {
+        return stateIds[i];
+    }
+
+    public int getRotation(int i) {
+        return rotations[i];
+    }
+
+    /**
+     * Pack a block position into its 12-bit position inside its section (x, z, y nibbles).
+     */
+    public static short packLocal(BlockPos pos) {
+        return (short) (((pos.getX() & 15) << 8) | ((pos.getZ() & 15) << 4) | (pos.getY() & 15));
+    }
+
+    public static int localX(short local) {
+        return (local >>> 8) & 15;
+    }
+
+    public static int localY(short local) {
+        return local & 15;
+    }
+
+    public static int localZ(short local) {
+        return (local >>> 4) & 15;
+    }
+}
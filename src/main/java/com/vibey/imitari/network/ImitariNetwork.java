@@ -0,0 +1,32 @@
+package com.vibey.imitari.network;
+
+import com.vibey.imitari.Imitari;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraftforge.network.NetworkDirection;
+import net.minecraftforge.network.NetworkRegistry;
+import net.minecraftforge.network.simple.SimpleChannel;
+
+import java.util.Optional;
+
+/**
+ * Imitari's network channel.
+ */
+public class ImitariNetwork {
+    private static final String PROTOCOL_VERSION = "1";
+
+    public static final SimpleChannel CHANNEL = NetworkRegistry.newSimpleChannel(
+            new ResourceLocation(Imitari.MODID, "main"),
+            () -> PROTOCOL_VERSION,
+            PROTOCOL_VERSION::equals,
+            PROTOCOL_VERSION::equals
+    );
+
+    public static void register() {
+        int id = 0;
+        CHANNEL.registerMessage(id++, CopiedSectionSyncPacket.class,
+                CopiedSectionSyncPacket::encode,
+                CopiedSectionSyncPacket::decode,
+                CopiedSectionSyncPacket::handle,
+                Optional.of(NetworkDirection.PLAY_TO_CLIENT));
+    }
+}
@@ -0,0 +1,110 @@
+package com.vibey.imitari.util;
+
+import com.vibey.imitari.api.ICopyBlock;
+import com.vibey.imitari.api.blockentity.ICopyBlockEntity;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.EmptyBlockGetter;
+import net.minecraft.world.level.block.SoundType;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraftforge.common.ForgeHooks;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Physical properties of a CopyBlock state showing a copied state, computed once per pair.
+ *
+ * The CopyBlockEntity keeps a reference to its instance, so explosion, mining, sound
+ * and light queries read a field instead of resolving the copied block and multiplier.
+ *
+ * - Resistance and hardness already include the effective mass multiplier
+ * - Sound type and light use the copied state's position-independent values
+ * - Instances are shared: the same pair always yields the same instance
+ *
+ * @param copyBlockState The CopyBlock's own state
+ * @param copiedState The copied (non-air) state
+ * @param explosionResistance Copied resistance * effective multiplier
+ * @param hardness Copied hardness * effective multiplier, or -1 if unbreakable
+ * @param soundType Sound type of the copied state
+ * @param lightEmission Light emission of the copied state (0-15)
+ */
+public record CopiedPhysics(
+        BlockState copyBlockState,
+        BlockState copiedState,
+        float explosionResistance,
+        float hardness,
+        SoundType soundType,
+        int lightEmission
+) {
+    // CopyBlock state -> copied state -> physics
+    private static final ConcurrentHashMap<BlockState, ConcurrentHashMap<BlockState, CopiedPhysics>> CACHE =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Get the physics of a CopyBlock state showing a copied state.
+     *
+     * @return The shared instance, or null if the copied state is air or the block is not a CopyBlock
+     */
+    @Nullable
+    public static CopiedPhysics of(BlockState copyBlockState, BlockState copiedState) {
+        if (copiedState.isAir() || !(copyBlockState.getBlock() instanceof ICopyBlock copyBlock)) {
+            return null;
+        }
+
+        return CACHE.computeIfAbsent(copyBlockState, s -> new ConcurrentHashMap<>())
+                .computeIfAbsent(copiedState, copied -> compute(copyBlockState, copyBlock, copied));
+    }
+
+    /**
+     * Get the physics of the CopyBlock at a position.
+     *
+     * @param state The CopyBlock's state at that position
+     * @return The physics, or null if the position holds no copied block
+     */
+    @Nullable
+    public static CopiedPhysics at(BlockState state, BlockGetter level, BlockPos pos) {
+        BlockEntity be = level.getBlockEntity(pos);
+        if (!(be instanceof ICopyBlockEntity copyBE)) {
+            return null;
+        }
+
+        CopiedPhysics physics = copyBE.getCopiedPhysics();
+        if (physics != null && physics.copyBlockState == state) {
+            return physics;
+        }
+
+        // Block entity without a cached reference, or the state changed this tick
+        return of(state, copyBE.getCopiedBlock());
+    }
+
+    private static CopiedPhysics compute(BlockState copyBlockState, ICopyBlock copyBlock, BlockState copiedState) {
+        float multiplier = MassMultiplierTable.get(copyBlockState, copyBlock);
+
+        // Destroy speed is a plain state field in vanilla, position only matters for overrides
+        float baseHardness = copiedState.getDestroySpeed(EmptyBlockGetter.INSTANCE, BlockPos.ZERO);
+
+        return new CopiedPhysics(
+                copyBlockState,
+                copiedState,
+                copiedState.getBlock().getExplosionResistance() * multiplier,
+                baseHardness < 0 ? -1.0f : baseHardness * multiplier,
+                copiedState.getSoundType(),
+                copiedState.getLightEmission()
+        );
+    }
+
+    /**
+     * Mining progress per tick, using the vanilla formula on the scaled hardness.
+     */
+    public float getDestroyProgress(Player player, BlockPos pos) {
+        if (hardness < 0) {
+            return 0.0f;
+        }
+
+        int divisor = ForgeHooks.isCorrectToolForDrops(copiedState, player) ? 30 : 100;
+        return player.getDigSpeed(copiedState, pos) / hardness / divisor;
+    }
+}
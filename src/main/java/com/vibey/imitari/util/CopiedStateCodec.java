@@ -0,0 +1,124 @@
+package com.vibey.imitari.util;
+
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import com.mojang.logging.LogUtils;
+import net.minecraft.commands.arguments.blocks.BlockStateParser;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.block.state.properties.Property;
+import org.slf4j.Logger;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compact string encoding of copied block states for CopyBlockEntity NBT.
+ *
+ * A copied state is stored as one string in block state syntax
+ * ({@code minecraft:oak_stairs[facing=north,half=bottom,...]}) instead of an id string
+ * plus a full property compound.
+ *
+ * - Encoded strings and decoded states are cached; the set of copied states in use is small
+ *   compared to the number of CopyBlocks, so chunk loads/saves are mostly cache hits
+ * - Renamed or removed properties (mod updates) are skipped, the block and its other
+ *   properties are kept
+ * - Unknown blocks (removed mods) decode to AIR
+ */
+public class CopiedStateCodec {
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    private static final ConcurrentHashMap<BlockState, String> ENCODE_CACHE = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<String, BlockState> DECODE_CACHE = new ConcurrentHashMap<>();
+
+    // Decoded strings come from saves - start over past this size instead of growing without bound
+    private static final int MAX_DECODE_CACHE = 4096;
+
+    /**
+     * Encode a copied state.
+     */
+    public static String encode(BlockState state) {
+        return ENCODE_CACHE.computeIfAbsent(state, CopiedStateCodec::serialize);
+    }
+
+    /**
+     * Decode a copied state.
+     *
+     * @return The decoded state, or AIR if the block is unknown
+     */
+    public static BlockState decode(String encoded) {
+        BlockState cached = DECODE_CACHE.get(encoded);
+        if (cached != null) {
+            return cached;
+        }
+
+        BlockState state = parse(encoded);
+
+        if (DECODE_CACHE.size() >= MAX_DECODE_CACHE) {
+            DECODE_CACHE.clear();
+        }
+        DECODE_CACHE.put(encoded, state);
+        return state;
+    }
+
+    /**
+     * Encode without the cache.
+     */
+    public static String serialize(BlockState state) {
+        return BlockStateParser.serialize(state);
+    }
+
+    /**
+     * Decode without the cache.
+     *
+     * @return The decoded state, or AIR if the block is unknown
+     */
+    public static BlockState parse(String encoded) {
+        try {
+            return BlockStateParser.parseForBlock(BuiltInRegistries.BLOCK.asLookup(), encoded, false).blockState();
+        } catch (CommandSyntaxException e) {
+            // Usually a property that no longer exists - keep the block and the valid properties
+            BlockState state = parseLenient(encoded);
+            LOGGER.warn("[Imitari] Copied block state '{}' did not fully parse ({}), using {}",
+                    encoded, e.getMessage(), serialize(state));
+            return state;
+        }
+    }
+
+    private static BlockState parseLenient(String encoded) {
+        int open = encoded.indexOf('[');
+        String blockId = open < 0 ? encoded : encoded.substring(0, open);
+
+        ResourceLocation id = ResourceLocation.tryParse(blockId.trim());
+        Block block = id != null ? BuiltInRegistries.BLOCK.getOptional(id).orElse(null) : null;
+        if (block == null) {
+            return Blocks.AIR.defaultBlockState();
+        }
+
+        BlockState state = block.defaultBlockState();
+        if (open < 0) {
+            return state;
+        }
+
+        int close = encoded.lastIndexOf(']');
+        String properties = encoded.substring(open + 1, close > open ? close : encoded.length());
+        for (String entry : properties.split(",")) {
+            int eq = entry.indexOf('=');
+            if (eq < 0) {
+                continue;
+            }
+
+            Property<?> property = block.getStateDefinition().getProperty(entry.substring(0, eq).trim());
+            if (property != null) {
+                state = applyProperty(state, property, entry.substring(eq + 1).trim());
+            }
+        }
+        return state;
+    }
+
+    private static <T extends Comparable<T>> BlockState applyProperty(BlockState state, Property<T> property,
+                                                                      String value) {
+        return property.getValue(value).map(v -> state.setValue(property, v)).orElse(state);
+    }
+}
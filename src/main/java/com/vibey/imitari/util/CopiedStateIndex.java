@@ -0,0 +1,140 @@
+package com.vibey.imitari.util;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.block.state.BlockState;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Per-level index of CopyBlock contents: packed BlockPos -> copied BlockState.
+ *
+ * Maintained by CopyBlockEntity (load, onLoad, setCopiedBlock, removal) so lookups
+ * never need to touch the block entity map. Loaded chunks are indexed from onLoad(),
+ * as each block entity is attached to the level.
+ * Ship blocks live in the shipyard of their level, so VS2 ships are covered too.
+ *
+ * A global count of indexed positions lets the getBlockState, tag and destroy speed hooks
+ * skip all work while no CopyBlock is loaded anywhere (see {@link #anyIndexed()}).
+ *
+ * Threading:
+ * - Writes happen on the level's own thread (block entity lifecycle)
+ * - Reads can come from any thread (tag checks) and use an optimistic read,
+ *   falling back to a read lock only if a write raced with the lookup
+ */
+public class CopiedStateIndex {
+
+    /**
+     * Implemented by every Level through LevelGetBlockStateMixin.
+     */
+    public interface Holder {
+        CopiedStateIndex imitari$getCopiedStateIndex();
+    }
+
+    // Indexed positions over every level
+    private static final AtomicInteger TOTAL = new AtomicInteger();
+
+    private final Long2ObjectOpenHashMap<BlockState> states = new Long2ObjectOpenHashMap<>();
+    private final StampedLock lock = new StampedLock();
+
+    /**
+     * Get the index for a level, or null for non-level getters (render regions, worldgen, etc).
+     */
+    @Nullable
+    public static CopiedStateIndex of(@Nullable BlockGetter level) {
+        if (level instanceof Holder holder) {
+            return holder.imitari$getCopiedStateIndex();
+        }
+        return null;
+    }
+
+    /**
+     * Whether any level has a CopyBlock indexed. Checked first by the hot-path mixins:
+     * while false, no state they see can be a placed CopyBlock.
+     */
+    public static boolean anyIndexed() {
+        return TOTAL.get() != 0;
+    }
+
+    /**
+     * Record the copied state for a CopyBlock position. Empty CopyBlocks are stored as AIR
+     * so that a miss always means "not indexed" rather than "empty".
+     */
+    public static void update(@Nullable BlockGetter level, BlockPos pos, BlockState copiedState) {
+        CopiedStateIndex index = of(level);
+        if (index != null) {
+            index.put(pos.asLong(), copiedState);
+        }
+    }
+
+    /**
+     * Forget a CopyBlock position (block entity removed or chunk unloaded).
+     */
+    public static void remove(@Nullable BlockGetter level, BlockPos pos) {
+        CopiedStateIndex index = of(level);
+        if (index != null) {
+            index.remove(pos.asLong());
+        }
+    }
+
+    public void put(long packedPos, BlockState copiedState) {
+        long stamp = lock.writeLock();
+        try {
+            if (states.put(packedPos, copiedState) == null) {
+                TOTAL.incrementAndGet();
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public void remove(long packedPos) {
+        long stamp = lock.writeLock();
+        try {
+            if (states.remove(packedPos) != null) {
+                TOTAL.decrementAndGet();
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Get the copied state at a packed position.
+     *
+     * @return The copied state (AIR for empty CopyBlocks), or null if the position is not indexed
+     */
+    @Nullable
+    public BlockState get(long packedPos) {
+        long stamp = lock.tryOptimisticRead();
+        BlockState state = null;
+        try {
+            state = states.get(packedPos);
+        } catch (RuntimeException e) {
+            // Torn read while a write was rehashing - validate() fails below and we retry under the lock
+        }
+
+        if (lock.validate(stamp)) {
+            return state;
+        }
+
+        stamp = lock.readLock();
+        try {
+            return states.get(packedPos);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return states.size();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+}
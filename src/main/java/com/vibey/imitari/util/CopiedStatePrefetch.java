@@ -0,0 +1,68 @@
+package com.vibey.imitari.util;
+
+import com.google.common.collect.MapMaker;
+import com.mojang.logging.LogUtils;
+import com.vibey.imitari.blockentity.CopyBlockEntity;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.block.state.BlockState;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+
+import java.util.Map;
+
+/**
+ * Copied states decoded on the chunk loading workers.
+ *
+ * ChunkMapMixin hands every chunk tag read from disk to {@link #decodeChunk} on the
+ * worker that read and upgraded it. The copied state of each CopyBlock entity tag is
+ * decoded there, and CopyBlockEntity.load picks it up on the main thread with one map
+ * lookup instead of parsing.
+ *
+ * - Keyed by the block entity tag instance - the chunk serializer passes the same
+ *   instance to the block entity, so nothing else needs to match
+ * - Weak keys: entries of chunks that never finish loading disappear with their tags
+ * - Tags not decoded here (structures, packets, commands) are parsed in load as before
+ */
+public class CopiedStatePrefetch {
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    // Block entity tag (identity) -> decoded copied state
+    private static final Map<CompoundTag, BlockState> DECODED = new MapMaker().weakKeys().makeMap();
+
+    /**
+     * Decode the copied states of all CopyBlock entities in a chunk tag (worker thread).
+     */
+    public static void decodeChunk(ChunkPos pos, CompoundTag chunkTag) {
+        ListTag blockEntities = chunkTag.getList("block_entities", Tag.TAG_COMPOUND);
+        if (blockEntities.isEmpty()) {
+            return;
+        }
+
+        for (int i = 0; i < blockEntities.size(); i++) {
+            CompoundTag beTag = blockEntities.getCompound(i);
+            if (!CopyBlockEntity.hasCopiedData(beTag)) {
+                continue;
+            }
+
+            try {
+                DECODED.put(beTag, CopyBlockEntity.decodeCopiedState(beTag));
+            } catch (Exception e) {
+                // Left to load() - it falls back to empty the same way
+                LOGGER.debug("[Imitari] Could not prefetch copied state in chunk {}: {}", pos, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Take the prefetched copied state of a block entity tag.
+     *
+     * @return The decoded state, or null if the tag was not prefetched
+     */
+    @Nullable
+    public static BlockState take(CompoundTag beTag) {
+        return DECODED.remove(beTag);
+    }
+}
@@ -0,0 +1,147 @@
+package com.vibey.imitari.util;
+
+import com.mojang.logging.LogUtils;
+import com.vibey.imitari.Imitari;
+import com.vibey.imitari.config.ImitariConfig;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.tags.TagKey;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraftforge.event.TagsUpdatedEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Precomputed tag membership for copied blocks.
+ *
+ * Every block tag in the registry gets a bit index. For each block that is actually
+ * copied somewhere, its tags are collected once into a bitset with blacklisted tags
+ * already masked out, so an inherited tag check is a map lookup plus a bit test.
+ *
+ * - Rebuilt lazily after tags are (re)loaded or the config changes
+ * - Tags unknown to the table (created after the last rebuild) fall back to vanilla
+ * - Blacklisted tags resolve to null so the CopyBlock keeps its own vanilla answer
+ */
+@Mod.EventBusSubscriber(modid = Imitari.MODID)
+public class CopiedTagTable {
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    private static volatile Table table = null;
+
+    private static final class Table {
+        final Object2IntOpenHashMap<TagKey<Block>> tagIndex = new Object2IntOpenHashMap<>();
+        final Set<TagKey<Block>> blacklist;
+        final long[] blacklistMask;
+        final ConcurrentHashMap<Block, long[]> blockBits = new ConcurrentHashMap<>();
+
+        Table(Set<TagKey<Block>> blacklist) {
+            this.blacklist = blacklist;
+            this.tagIndex.defaultReturnValue(-1);
+
+            BuiltInRegistries.BLOCK.getTagNames().forEach(tag -> tagIndex.put(tag, tagIndex.size()));
+
+            this.blacklistMask = new long[(tagIndex.size() + 63) >>> 6];
+            for (TagKey<Block> tag : blacklist) {
+                int index = tagIndex.getInt(tag);
+                if (index >= 0) {
+                    blacklistMask[index >>> 6] |= 1L << index;
+                }
+            }
+        }
+
+        long[] computeBits(Block block) {
+            long[] bits = new long[blacklistMask.length];
+
+            block.builtInRegistryHolder().tags().forEach(tag -> {
+                int index = tagIndex.getInt(tag);
+                if (index >= 0) {
+                    bits[index >>> 6] |= 1L << index;
+                }
+            });
+
+            for (int i = 0; i < bits.length; i++) {
+                bits[i] &= ~blacklistMask[i];
+            }
+
+            return bits;
+        }
+
+        @Nullable
+        Boolean resolve(BlockState copiedState, TagKey<Block> tag) {
+            int index = tagIndex.getInt(tag);
+
+            if (index < 0) {
+                // Tag not in the registry's tag set at build time - answer the slow way
+                if (blacklist.contains(tag)) {
+                    return null;
+                }
+                return copiedState.is(tag);
+            }
+
+            if ((blacklistMask[index >>> 6] & (1L << index)) != 0) {
+                return null;
+            }
+
+            long[] bits = blockBits.computeIfAbsent(copiedState.getBlock(), this::computeBits);
+            return (bits[index >>> 6] & (1L << index)) != 0;
+        }
+    }
+
+    /**
+     * Check whether a copied state has a tag, as seen through a CopyBlock.
+     *
+     * @param copiedState The copied (non-air) block state
+     * @param tag The tag to check
+     * @return true/false, or null if the tag is blacklisted and must not be inherited
+     */
+    @Nullable
+    public static Boolean resolve(BlockState copiedState, TagKey<Block> tag) {
+        return getTable().resolve(copiedState, tag);
+    }
+
+    /**
+     * Check whether a tag is on the configured inheritance blacklist.
+     */
+    public static boolean isBlacklisted(TagKey<Block> tag) {
+        return getTable().blacklist.contains(tag);
+    }
+
+    /**
+     * Drop the table; it is rebuilt on next use. Called on tag and config reload.
+     */
+    public static void invalidate() {
+        table = null;
+    }
+
+    private static Table getTable() {
+        Table current = table;
+        if (current == null) {
+            current = rebuild();
+        }
+        return current;
+    }
+
+    private static synchronized Table rebuild() {
+        Table current = table;
+        if (current != null) {
+            return current;
+        }
+
+        current = new Table(ImitariConfig.get().tagBlacklist());
+        table = current;
+        LOGGER.debug("[Imitari] Built copied tag table: {} tags, {} blacklisted",
+                current.tagIndex.size(), current.blacklist.size());
+        return current;
+    }
+
+    @SubscribeEvent
+    public static void onTagsUpdated(TagsUpdatedEvent event) {
+        invalidate();
+    }
+}
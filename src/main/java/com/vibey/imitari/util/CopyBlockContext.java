@@ -9,58 +9,59 @@ import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayDeque;
-import java.util.Deque;
-
 /**
- * Ultra-optimized context manager for CopyBlock tag checks.
+ * Context for CopyBlock tag checks.
+ *
+ * {@code BlockState.is(TagKey)} has no position, so Level.getBlockState records
+ * where the last CopyBlock was looked up and the tag mixin resolves the copied
+ * state for that position through the level's {@link CopiedStateIndex}.
  *
- * Performance optimizations:
- * - Only tracks CopyBlocks (99% fewer pushes)
- * - Stores primitives instead of BlockPos (no allocations)
- * - Multiple tag checks work (doesn't pop on first check)
- * - Auto-cleanup prevents memory leaks
- * - Cached tag results for repeated checks
+ * Performance:
+ * - One mutable cursor per thread, overwritten in place (no allocation, no stack)
+ * - No timestamps - the cursor also remembers which CopyBlock state it was recorded
+ *   for, so a tag check on a different block is never attributed to it
+ * - Copied state comes from the position index, not the block entity map
  */
 public class CopyBlockContext {
 
-    private static final ThreadLocal<ContextStack> CONTEXT_STACK =
-            ThreadLocal.withInitial(ContextStack::new);
-
-    private static final long CONTEXT_TIMEOUT_NS = 100_000_000L; // 100ms
+    private static final ThreadLocal<Cursor> CURSOR = ThreadLocal.withInitial(Cursor::new);
 
     /**
-     * Lightweight context using primitives to avoid allocations
+     * Last CopyBlock lookup on this thread
      */
-    private static class Context {
-        final BlockGetter level;
-        final int x, y, z;
-        final long timestamp;
-
-        // Cache for repeated tag checks (very common pattern)
-        private BlockState cachedCopiedState;
-        private boolean cacheValid;
+    private static final class Cursor {
+        @Nullable BlockGetter level;
+        @Nullable CopiedStateIndex index;
+        @Nullable BlockState copyBlockState;
+        long packedPos;
 
-        Context(BlockGetter level, int x, int y, int z) {
+        void set(BlockGetter level, @Nullable CopiedStateIndex index, long packedPos, @Nullable BlockState copyBlockState) {
             this.level = level;
-            this.x = x;
-            this.y = y;
-            this.z = z;
-            this.timestamp = System.nanoTime();
-            this.cacheValid = false;
+            this.index = index;
+            this.packedPos = packedPos;
+            this.copyBlockState = copyBlockState;
+        }
+
+        void clear() {
+            this.level = null;
+            this.index = null;
+            this.copyBlockState = null;
         }
 
+        @Nullable
         BlockState getCopiedBlock() {
-            if (cacheValid) {
-                return cachedCopiedState;
+            if (index != null) {
+                BlockState indexed = index.get(packedPos);
+                if (indexed != null) {
+                    return indexed;
+                }
             }
 
+            // Not indexed yet (block entity still loading) - fall back to the block entity
             try {
-                BlockEntity be = level.getBlockEntity(new BlockPos(x, y, z));
+                BlockEntity be = level.getBlockEntity(BlockPos.of(packedPos));
                 if (be instanceof ICopyBlockEntity copyBE) {
-                    cachedCopiedState = copyBE.getCopiedBlock();
-                    cacheValid = true;
-                    return cachedCopiedState;
+                    return copyBE.getCopiedBlock();
                 }
             } catch (Exception e) {
                 // Position invalid or chunk unloaded
@@ -68,114 +69,124 @@ public class CopyBlockContext {
 
             return null;
         }
-
-        boolean isExpired() {
-            return System.nanoTime() - timestamp > CONTEXT_TIMEOUT_NS;
-        }
     }
 
     /**
-     * Custom stack with lazy cleanup
+     * Record a CopyBlock lookup (called by LevelGetBlockStateMixin).
+     *
+     * @param level The level the lookup happened in
+     * @param index The level's copied state index
+     * @param pos The looked up position
+     * @param copyBlockState The CopyBlock state that was returned
      */
-    private static class ContextStack {
-        private final Deque<Context> stack = new ArrayDeque<>(4); // Start small
-
-        void push(Context ctx) {
-            // Auto-cleanup expired contexts before pushing
-            while (!stack.isEmpty() && stack.peek().isExpired()) {
-                stack.pop();
-            }
+    public static void record(BlockGetter level, @Nullable CopiedStateIndex index, BlockPos pos, BlockState copyBlockState) {
+        CURSOR.get().set(level, index, pos.asLong(), copyBlockState);
 
-            stack.push(ctx);
-        }
-
-        Context peek() {
-            // Clean expired contexts
-            while (!stack.isEmpty() && stack.peek().isExpired()) {
-                stack.pop();
-            }
-
-            return stack.isEmpty() ? null : stack.peek();
-        }
-
-        void pop() {
-            if (!stack.isEmpty()) {
-                stack.pop();
-            }
-        }
-
-        boolean isEmpty() {
-            return stack.isEmpty();
-        }
-
-        void clear() {
-            stack.clear();
+        if (ImitariMetrics.isEnabled()) {
+            ImitariMetrics.increment(ImitariMetrics.Counter.CONTEXT_PUSHES, level);
         }
     }
 
     /**
-     * Push a new context onto the stack (ONLY for CopyBlocks)
+     * Record a CopyBlock position for subsequent tag checks.
      */
     public static void push(BlockGetter level, BlockPos pos) {
-        // Store primitives to avoid BlockPos.immutable() allocation
-        CONTEXT_STACK.get().push(new Context(level, pos.getX(), pos.getY(), pos.getZ()));
+        CURSOR.get().set(level, CopiedStateIndex.of(level), pos.asLong(), null);
+
+        if (ImitariMetrics.isEnabled()) {
+            ImitariMetrics.increment(ImitariMetrics.Counter.CONTEXT_PUSHES, level);
+        }
     }
 
     /**
-     * Explicitly pop the current context (usually not needed - auto-cleanup handles it)
+     * Forget the current context (usually not needed - the next lookup overwrites it)
      */
     public static void pop() {
-        CONTEXT_STACK.get().pop();
+        CURSOR.get().clear();
     }
 
     /**
      * Check if the copied block has the given tag.
      * Returns null if no context or not a CopyBlock with copied content.
-     *
-     * DOES NOT POP - allows multiple tag checks on same context!
      */
     @Nullable
     public static Boolean checkCopiedBlockTag(TagKey<Block> tag) {
-        ContextStack contextStack = CONTEXT_STACK.get();
-        Context ctx = contextStack.peek();
+        return checkCopiedBlockTag(null, tag);
+    }
 
-        if (ctx == null) {
+    /**
+     * Check if the copied block of the CopyBlock being tag-checked has the given tag.
+     *
+     * @param copyBlockState The CopyBlock state {@code is()} was called on, or null to skip the check
+     * @param tag The tag to check
+     * @return true/false if resolved, null if there is no matching context, nothing is copied
+     *         or the tag is blacklisted
+     */
+    @Nullable
+    public static Boolean checkCopiedBlockTag(@Nullable BlockState copyBlockState, TagKey<Block> tag) {
+        BlockState copiedState = getCopiedBlock(copyBlockState);
+
+        if (copiedState == null || copiedState.isAir()) {
             return null;
         }
 
-        BlockState copiedState = ctx.getCopiedBlock();
+        // Check the COPIED block's tags (precomputed, blacklist already applied)
+        return CopiedTagTable.resolve(copiedState, tag);
+    }
 
-        if (copiedState == null || copiedState.isAir()) {
+    /**
+     * Resolve the copied state for the current context.
+     *
+     * @param copyBlockState The CopyBlock state being queried, or null to skip the check
+     * @return The copied state, or null if there is no matching context
+     */
+    @Nullable
+    public static BlockState getCopiedBlock(@Nullable BlockState copyBlockState) {
+        Cursor cursor = CURSOR.get();
+
+        if (cursor.level == null) {
+            return null;
+        }
+
+        // Last lookup was a different CopyBlock - don't attribute its position to this one
+        if (copyBlockState != null && cursor.copyBlockState != null && cursor.copyBlockState != copyBlockState) {
             return null;
         }
 
-        // Check the COPIED block's tags
-        return copiedState.is(tag);
+        return cursor.getCopiedBlock();
     }
 
     /**
-     * Get current context for direct BlockEntity access (optimization for hardness mixin)
+     * Get current context position
      */
     @Nullable
     public static BlockPos getCurrentPosition() {
-        Context ctx = CONTEXT_STACK.get().peek();
-        if (ctx == null) {
+        Cursor cursor = CURSOR.get();
+        if (cursor.level == null) {
             return null;
         }
-        return new BlockPos(ctx.x, ctx.y, ctx.z);
+        return BlockPos.of(cursor.packedPos);
+    }
+
+    /**
+     * Get the level of the current context
+     */
+    @Nullable
+    public static BlockGetter getCurrentLevel() {
+        return CURSOR.get().level;
     }
 
     /**
      * Check if we have an active context
      */
     public static boolean hasContext() {
-        return CONTEXT_STACK.get().peek() != null;
+        return CURSOR.get().level != null;
     }
 
     /**
      * Emergency cleanup for thread safety
      */
     public static void clearAll() {
-        CONTEXT_STACK.get().clear();
+        CURSOR.get().clear();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,120 @@
+package com.vibey.imitari.util;
+
+import com.vibey.imitari.api.ICopyBlock;
+import com.vibey.imitari.api.blockentity.ICopyBlockEntity;
+import it.unimi.dsi.fastutil.longs.Long2FloatOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.Explosion;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.material.FluidState;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Explosion-scoped CopyBlock resistances.
+ *
+ * Vanilla asks for the resistance of every block on every ray step, and each CopyBlock
+ * answer needs a block entity lookup. Before the rays are cast, the block entity maps of
+ * the chunks in reach are scanned once and every CopyBlock's resistance is stored by
+ * position on the Explosion itself (ExplosionMixin), then read back by
+ * ExplosionDamageCalculatorMixin.
+ *
+ * - Values are exactly what vanilla would compute (block and fluid resistance, max of both)
+ * - Blocks do not change while rays are cast, so the values stay valid for the whole pass
+ * - Explosions without CopyBlocks in reach keep no map at all
+ */
+public class ExplosionResistanceCache {
+
+    /**
+     * Duck interface implemented on {@link Explosion} by ExplosionMixin.
+     */
+    public interface Holder {
+        @Nullable
+        Long2FloatOpenHashMap imitari$getCopyResistances();
+
+        void imitari$setCopyResistances(@Nullable Long2FloatOpenHashMap resistances);
+    }
+
+    // Rays lose at least 0.225 per 0.3 step and start with at most 1.3 * radius
+    private static final double MAX_REACH_PER_RADIUS = 1.3 * 0.3 / 0.22500001;
+
+    /**
+     * Collect the resistances of all CopyBlocks an explosion can reach.
+     *
+     * @return Packed position -> resistance, or null if no CopyBlock is in reach
+     */
+    @Nullable
+    public static Long2FloatOpenHashMap collect(Level level, Explosion explosion,
+                                                double x, double y, double z, float radius) {
+        double reach = radius * MAX_REACH_PER_RADIUS + 1.0;
+        int minX = Mth.floor(x - reach);
+        int minY = Mth.floor(y - reach);
+        int minZ = Mth.floor(z - reach);
+        int maxX = Mth.floor(x + reach);
+        int maxY = Mth.floor(y + reach);
+        int maxZ = Mth.floor(z + reach);
+
+        Long2FloatOpenHashMap resistances = null;
+
+        for (int chunkX = SectionPos.blockToSectionCoord(minX); chunkX <= SectionPos.blockToSectionCoord(maxX); chunkX++) {
+            for (int chunkZ = SectionPos.blockToSectionCoord(minZ); chunkZ <= SectionPos.blockToSectionCoord(maxZ); chunkZ++) {
+                LevelChunk chunk = level.getChunkSource().getChunkNow(chunkX, chunkZ);
+                if (chunk == null) {
+                    continue;
+                }
+
+                for (BlockEntity be : chunk.getBlockEntities().values()) {
+                    if (!(be instanceof ICopyBlockEntity)) {
+                        continue;
+                    }
+
+                    BlockPos pos = be.getBlockPos();
+                    if (pos.getX() < minX || pos.getX() > maxX
+                            || pos.getY() < minY || pos.getY() > maxY
+                            || pos.getZ() < minZ || pos.getZ() > maxZ) {
+                        continue;
+                    }
+
+                    BlockState state = be.getBlockState();
+                    if (!(state.getBlock() instanceof ICopyBlock)) {
+                        continue;
+                    }
+
+                    // Same value ExplosionDamageCalculator would compute for this position
+                    FluidState fluid = state.getFluidState();
+                    float resistance = Math.max(
+                            state.getExplosionResistance(level, pos, explosion),
+                            fluid.getExplosionResistance(level, pos, explosion));
+
+                    if (resistances == null) {
+                        resistances = new Long2FloatOpenHashMap();
+                        resistances.defaultReturnValue(Float.NaN);
+                    }
+                    resistances.put(pos.asLong(), resistance);
+                }
+            }
+        }
+
+        if (resistances != null && ImitariMetrics.isEnabled()) {
+            ImitariMetrics.add(ImitariMetrics.Counter.EXPLOSION_PREFILLED_BLOCKS, level, resistances.size());
+        }
+        return resistances;
+    }
+
+    /**
+     * Get the prefilled resistance of a CopyBlock for an explosion.
+     *
+     * @return The resistance, or NaN if not prefilled
+     */
+    public static float get(Explosion explosion, BlockPos pos) {
+        Long2FloatOpenHashMap resistances = ((Holder) explosion).imitari$getCopyResistances();
+        if (resistances == null) {
+            return Float.NaN;
+        }
+        return resistances.get(pos.asLong());
+    }
+}
@@ -0,0 +1,277 @@
+package com.vibey.imitari.util;
+
+import com.mojang.logging.LogUtils;
+import com.vibey.imitari.Imitari;
+import net.minecraft.Util;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.Level;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Opt-in counters and histograms for CopyBlock hot paths, broken down per dimension.
+ *
+ * Disabled by default ({@code enableMetrics} in imitari.toml). Every call site checks
+ * {@link #isEnabled()} first, so when disabled the only cost is one static field read.
+ *
+ * - Counters are LongAdders (no contention between the server and worker threads)
+ * - Histograms use power-of-two buckets
+ * - Optional periodic CSV dump to {@code imitari-stats.csv} in the server directory
+ * - Shown and reset with {@code /imitari stats [reset]}
+ */
+@Mod.EventBusSubscriber(modid = Imitari.MODID)
+public class ImitariMetrics {
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    public static final String CSV_FILE = "imitari-stats.csv";
+
+    // Dimension label used when the call site has no Level (chunk loading, render regions)
+    public static final String NO_DIMENSION = "(none)";
+
+    public enum Counter {
+        TAG_INTERCEPTS("tag_intercepts"),
+        CONTEXT_PUSHES("context_pushes"),
+        DESTROY_SPEED_OVERRIDES("destroy_speed_overrides"),
+        VS2_MASS_NOTIFICATIONS("vs2_mass_notifications"),
+        BE_LOADS("be_loads"),
+        BE_SAVES("be_saves"),
+        BE_BYTES_WRITTEN("be_bytes_written"),
+        CBC_ARMOR_LOOKUPS("cbc_armor_lookups"),
+        EXPLOSION_PREFILLED_BLOCKS("explosion_prefilled_blocks"),
+        EXPLOSION_CACHE_HITS("explosion_cache_hits");
+
+        public final String id;
+
+        Counter(String id) {
+            this.id = id;
+        }
+    }
+
+    public enum Histogram {
+        BE_SAVE_BYTES("be_save_bytes"),
+        VS2_FLUSH_BATCH("vs2_flush_batch");
+
+        public final String id;
+
+        Histogram(String id) {
+            this.id = id;
+        }
+    }
+
+    private static final int BUCKETS = 33;
+
+    /**
+     * Counters and histograms of one dimension.
+     */
+    public static final class DimensionStats {
+        private final LongAdder[] counters = new LongAdder[Counter.values().length];
+        private final LongAdder[][] histograms = new LongAdder[Histogram.values().length][BUCKETS];
+
+        DimensionStats() {
+            for (int i = 0; i < counters.length; i++) {
+                counters[i] = new LongAdder();
+            }
+            for (LongAdder[] buckets : histograms) {
+                for (int i = 0; i < BUCKETS; i++) {
+                    buckets[i] = new LongAdder();
+                }
+            }
+        }
+
+        public long get(Counter counter) {
+            return counters[counter.ordinal()].sum();
+        }
+
+        /**
+         * Bucket counts: bucket {@code i} holds values in [2^(i-1), 2^i), bucket 0 holds 0.
+         */
+        public long[] getBuckets(Histogram histogram) {
+            LongAdder[] buckets = histograms[histogram.ordinal()];
+            long[] result = new long[BUCKETS];
+            for (int i = 0; i < BUCKETS; i++) {
+                result[i] = buckets[i].sum();
+            }
+            return result;
+        }
+
+        void reset() {
+            for (LongAdder counter : counters) {
+                counter.reset();
+            }
+            for (LongAdder[] buckets : histograms) {
+                for (LongAdder bucket : buckets) {
+                    bucket.reset();
+                }
+            }
+        }
+    }
+
+    // Toggled by config reloads while server and worker threads read it
+    private static volatile boolean enabled = false;
+    private static int csvIntervalTicks = 0;
+    private static int ticksSinceDump = 0;
+
+    // Dimension keys are interned - no String is built on the recording path
+    private static final Map<ResourceKey<Level>, DimensionStats> STATS = new ConcurrentHashMap<>();
+
+    // Recordings without a level (e.g. block entities before they are attached)
+    private static final DimensionStats NO_LEVEL_STATS = new DimensionStats();
+    private static volatile boolean noLevelUsed = false;
+
+    /**
+     * Whether metrics are being recorded. Call sites check this before recording.
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Apply the metrics config (called on config load/reload).
+     */
+    public static void configure(boolean enable, int csvIntervalSeconds) {
+        enabled = enable;
+        csvIntervalTicks = Math.max(0, csvIntervalSeconds) * 20;
+        ticksSinceDump = 0;
+    }
+
+    public static void increment(Counter counter, @Nullable BlockGetter level) {
+        add(counter, level, 1);
+    }
+
+    public static void add(Counter counter, @Nullable BlockGetter level, long amount) {
+        statsFor(level).counters[counter.ordinal()].add(amount);
+    }
+
+    public static void record(Histogram histogram, @Nullable BlockGetter level, long value) {
+        int bucket = value <= 0 ? 0 : Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(value));
+        statsFor(level).histograms[histogram.ordinal()][bucket].increment();
+    }
+
+    private static DimensionStats statsFor(@Nullable BlockGetter level) {
+        if (!(level instanceof Level realLevel)) {
+            if (!noLevelUsed) {
+                noLevelUsed = true;
+            }
+            return NO_LEVEL_STATS;
+        }
+
+        ResourceKey<Level> dimension = realLevel.dimension();
+        DimensionStats stats = STATS.get(dimension);
+        return stats != null ? stats : STATS.computeIfAbsent(dimension, d -> new DimensionStats());
+    }
+
+    /**
+     * Per-dimension stats, keyed by dimension id (built for display, not live).
+     */
+    public static Map<String, DimensionStats> getStats() {
+        Map<String, DimensionStats> named = new LinkedHashMap<>();
+        for (Map.Entry<ResourceKey<Level>, DimensionStats> entry : STATS.entrySet()) {
+            named.put(entry.getKey().location().toString(), entry.getValue());
+        }
+        if (noLevelUsed) {
+            named.put(NO_DIMENSION, NO_LEVEL_STATS);
+        }
+        return named;
+    }
+
+    /**
+     * Sum of a counter over every dimension.
+     */
+    public static long total(Counter counter) {
+        long total = NO_LEVEL_STATS.get(counter);
+        for (DimensionStats stats : STATS.values()) {
+            total += stats.get(counter);
+        }
+        return total;
+    }
+
+    public static void reset() {
+        NO_LEVEL_STATS.reset();
+        for (DimensionStats stats : STATS.values()) {
+            stats.reset();
+        }
+    }
+
+    @SubscribeEvent
+    public static void onServerTick(TickEvent.ServerTickEvent event) {
+        if (event.phase != TickEvent.Phase.END || !enabled || csvIntervalTicks <= 0) {
+            return;
+        }
+
+        if (++ticksSinceDump < csvIntervalTicks) {
+            return;
+        }
+        ticksSinceDump = 0;
+
+        MinecraftServer server = event.getServer();
+        List<String> rows = snapshotRows(System.currentTimeMillis());
+        File file = new File(server.getServerDirectory(), CSV_FILE);
+
+        // File IO off the server thread
+        Util.ioPool().execute(() -> appendCsv(file, rows));
+    }
+
+    private static List<String> snapshotRows(long timestamp) {
+        List<String> rows = new ArrayList<>();
+        for (Map.Entry<String, DimensionStats> entry : getStats().entrySet()) {
+            DimensionStats stats = entry.getValue();
+            for (Counter counter : Counter.values()) {
+                rows.add(timestamp + "," + entry.getKey() + "," + counter.id + "," + stats.get(counter));
+            }
+            for (Histogram histogram : Histogram.values()) {
+                long[] buckets = stats.getBuckets(histogram);
+                for (int i = 0; i < buckets.length; i++) {
+                    if (buckets[i] != 0) {
+                        rows.add(timestamp + "," + entry.getKey() + "," + histogram.id + "_lt_" + bucketUpperBound(i)
+                                + "," + buckets[i]);
+                    }
+                }
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Exclusive upper bound of a histogram bucket (for display).
+     */
+    public static long bucketUpperBound(int bucket) {
+        return bucket == 0 ? 1 : 1L << bucket;
+    }
+
+    private static void appendCsv(File file, List<String> rows) {
+        try {
+            boolean newFile = !file.exists();
+            try (BufferedWriter writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                if (newFile) {
+                    writer.write("timestamp,dimension,metric,value");
+                    writer.newLine();
+                }
+                for (String row : rows) {
+                    writer.write(row);
+                    writer.newLine();
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.warn("[Imitari] Failed to write metrics to {}: {}", file, e.getMessage());
+        }
+    }
+}
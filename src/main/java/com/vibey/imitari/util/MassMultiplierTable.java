@@ -0,0 +1,86 @@
+package com.vibey.imitari.util;
+
+import com.mojang.logging.LogUtils;
+import com.vibey.imitari.api.ICopyBlock;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+import org.slf4j.Logger;
+
+import java.util.Arrays;
+
+/**
+ * Precomputed {@link ICopyBlock#getEffectiveMassMultiplier(BlockState)} for every CopyBlock state.
+ *
+ * Indexed by the global block state id, so VS2 mass, CBC armor and the mining mixin
+ * all read the multiplier with one id lookup and one array read.
+ *
+ * - Built once in common setup (registries are frozen by then)
+ * - Non-CopyBlock and unknown states fall back to calling the block directly
+ */
+public class MassMultiplierTable {
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    private static volatile float[] table = null;
+
+    /**
+     * Build the table from the frozen block registry.
+     */
+    public static void build() {
+        float[] values = new float[Block.BLOCK_STATE_REGISTRY.size()];
+        Arrays.fill(values, Float.NaN);
+
+        int count = 0;
+        for (Block block : BuiltInRegistries.BLOCK) {
+            if (!(block instanceof ICopyBlock copyBlock)) {
+                continue;
+            }
+
+            for (BlockState state : block.getStateDefinition().getPossibleStates()) {
+                int id = Block.getId(state);
+                if (id >= 0 && id < values.length) {
+                    values[id] = copyBlock.getEffectiveMassMultiplier(state);
+                    count++;
+                }
+            }
+        }
+
+        table = values;
+        LOGGER.info("[Imitari] Precomputed mass multipliers for {} CopyBlock states", count);
+    }
+
+    /**
+     * Get the effective mass multiplier of a CopyBlock state.
+     *
+     * @param state The CopyBlock's state
+     * @param copyBlock The CopyBlock ({@code state.getBlock()})
+     * @return The effective multiplier (layers, double slabs, etc. included)
+     */
+    public static float get(BlockState state, ICopyBlock copyBlock) {
+        float[] values = table;
+        if (values != null) {
+            int id = Block.getId(state);
+            if (id >= 0 && id < values.length) {
+                float value = values[id];
+                if (!Float.isNaN(value)) {
+                    return value;
+                }
+            }
+        }
+
+        // Table not built yet or state not covered
+        return copyBlock.getEffectiveMassMultiplier(state);
+    }
+
+    /**
+     * Get the effective mass multiplier of any state.
+     *
+     * @return The effective multiplier, or 1.0 if the state is not a CopyBlock
+     */
+    public static float get(BlockState state) {
+        if (state.getBlock() instanceof ICopyBlock copyBlock) {
+            return get(state, copyBlock);
+        }
+        return 1.0f;
+    }
+}
@@ -0,0 +1,91 @@
+package com.vibey.imitari.util;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.effect.MobEffectInstance;
+import net.minecraft.world.effect.MobEffectUtil;
+import net.minecraft.world.effect.MobEffects;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.ItemStack;
+import net.minecraftforge.common.ForgeMod;
+
+/**
+ * Per-player CopyBlock destroy progress, reused while the player keeps mining the same block.
+ *
+ * Mining asks for the destroy progress every tick, and each answer runs the full tool speed
+ * calculation (enchantments, effects, BreakSpeed event). The last answer is kept on the
+ * player (PlayerMiningCacheMixin) and reused while nothing it depends on changed:
+ * - Same target position and same CopiedPhysics (block state and copied block)
+ * - Same held stack, haste/conduit and mining fatigue levels
+ * - Same on-ground and underwater state
+ * - At most {@link #MAX_AGE_TICKS} old, so BreakSpeed listeners with other inputs still apply
+ *
+ * Age is measured in level game time: fake players (Create deployers and similar) get the
+ * same cache, but their tickCount never advances.
+ */
+public class MiningProgressCache {
+
+    /**
+     * Duck interface implemented on {@link Player} by PlayerMiningCacheMixin.
+     */
+    public interface Holder {
+        MiningProgressCache imitari$getMiningCache();
+    }
+
+    private static final int MAX_AGE_TICKS = 20;
+
+    private CopiedPhysics physics = null;
+    private long pos;
+    private ItemStack tool = ItemStack.EMPTY;
+    private int effects;
+    private boolean onGround;
+    private boolean underwater;
+    private long gameTime;
+    private float progress;
+
+    /**
+     * Get the destroy progress of a CopyBlock for a player, reusing the last answer if still valid.
+     */
+    public static float getDestroyProgress(Player player, BlockPos pos, CopiedPhysics physics) {
+        if (!(player instanceof Holder holder)) {
+            return physics.getDestroyProgress(player, pos);
+        }
+        return holder.imitari$getMiningCache().get(player, pos, physics);
+    }
+
+    private float get(Player player, BlockPos pos, CopiedPhysics physics) {
+        long packedPos = pos.asLong();
+        ItemStack heldTool = player.getMainHandItem();
+        int effectKey = getEffectKey(player);
+        boolean playerOnGround = player.onGround();
+        boolean playerUnderwater = player.isEyeInFluidType(ForgeMod.WATER_TYPE.get());
+        long now = player.level().getGameTime();
+
+        if (this.physics == physics
+                && this.pos == packedPos
+                && this.tool == heldTool
+                && this.effects == effectKey
+                && this.onGround == playerOnGround
+                && this.underwater == playerUnderwater
+                && now - this.gameTime < MAX_AGE_TICKS) {
+            return progress;
+        }
+
+        this.progress = physics.getDestroyProgress(player, pos);
+        this.physics = physics;
+        this.pos = packedPos;
+        this.tool = heldTool;
+        this.effects = effectKey;
+        this.onGround = playerOnGround;
+        this.underwater = playerUnderwater;
+        this.gameTime = now;
+        return progress;
+    }
+
+    // Haste/conduit and mining fatigue levels, packed (0 = no effect)
+    private static int getEffectKey(Player player) {
+        int haste = MobEffectUtil.hasDigSpeed(player) ? MobEffectUtil.getDigSpeedAmplification(player) + 1 : 0;
+        MobEffectInstance fatigue = player.getEffect(MobEffects.DIG_SLOWDOWN);
+        int fatigueLevel = fatigue != null ? fatigue.getAmplifier() + 1 : 0;
+        return haste | (fatigueLevel << 16);
+    }
+}